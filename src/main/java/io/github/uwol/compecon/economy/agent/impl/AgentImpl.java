@@ -21,7 +21,6 @@ package io.github.uwol.compecon.economy.agent.impl;
 
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import javax.persistence.Column;
@@ -39,6 +38,8 @@ import javax.persistence.OneToOne;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Index;
 
 import io.github.uwol.compecon.economy.agent.Agent;
@@ -63,6 +64,7 @@ import io.github.uwol.compecon.engine.timesystem.impl.DayType;
 import io.github.uwol.compecon.engine.timesystem.impl.MonthType;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "Agent")
 @org.hibernate.annotations.Table(appliesTo = "Agent", indexes = {
 		@Index(name = "IDX_A_DTYPE", columnNames = { "DTYPE" }) })
@@ -108,6 +110,12 @@ public abstract class AgentImpl implements Agent {
 		}
 	};
 
+	/**
+	 * row in the ledger of the hard cash service
+	 */
+	@Transient
+	protected int hardCashSlot = -1;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.TABLE)
 	protected int id;
@@ -198,6 +206,12 @@ public abstract class AgentImpl implements Agent {
 		return bankAccountTransactionsDelegate;
 	}
 
+	@Override
+	@Transient
+	public int getHardCashSlot() {
+		return hardCashSlot;
+	}
+
 	@Override
 	public int getId() {
 		return id;
@@ -293,10 +307,11 @@ public abstract class AgentImpl implements Agent {
 		final Map<GoodType, Double> prices = ApplicationContext.getInstance().getMarketService()
 				.getMarginalMarketPrices(primaryCurrency);
 
-		for (final Entry<GoodType, Double> balanceEntry : ApplicationContext.getInstance().getPropertyService()
-				.getGoodTypeBalances(this).entrySet()) {
-			final GoodType goodType = balanceEntry.getKey();
-			final double amount = balanceEntry.getValue();
+		final double[] balances = ApplicationContext.getInstance().getPropertyService()
+				.getGoodTypeBalancesArray(this);
+
+		for (final GoodType goodType : GoodType.values()) {
+			final double amount = balances[goodType.ordinal()];
 			final double price = prices.get(goodType);
 
 			if (!Double.isNaN(price)) {
@@ -360,6 +375,11 @@ public abstract class AgentImpl implements Agent {
 		this.isDeconstructed = isDeconstructed;
 	}
 
+	@Override
+	public void setHardCashSlot(final int hardCashSlot) {
+		this.hardCashSlot = hardCashSlot;
+	}
+
 	public void setId(final int id) {
 		this.id = id;
 	}
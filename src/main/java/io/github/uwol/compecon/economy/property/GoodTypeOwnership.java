@@ -19,15 +19,23 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.economy.property;
 
-import java.util.Map;
-
 import io.github.uwol.compecon.economy.materia.GoodType;
 
 public interface GoodTypeOwnership {
 
 	public int getId();
 
-	public Map<GoodType, Double> getOwnedGoodTypes();
+	/**
+	 * @return owned amount of the good type
+	 */
+	public double getBalance(final GoodType goodType);
+
+	/**
+	 * @return snapshot of the owned amounts indexed by {@link GoodType#ordinal()}
+	 */
+	public double[] getBalances();
 
 	public PropertyOwner getPropertyOwner();
+
+	public void setBalance(final GoodType goodType, final double balance);
 }
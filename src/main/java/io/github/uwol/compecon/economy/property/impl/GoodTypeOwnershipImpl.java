@@ -21,6 +21,7 @@ package io.github.uwol.compecon.economy.property.impl;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import javax.persistence.CollectionTable;
 import javax.persistence.ElementCollection;
@@ -33,20 +34,33 @@ import javax.persistence.JoinColumn;
 import javax.persistence.MapKeyEnumerated;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 
 import io.github.uwol.compecon.economy.agent.impl.AgentImpl;
 import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.property.GoodTypeOwnership;
 import io.github.uwol.compecon.economy.property.PropertyOwner;
+import io.github.uwol.compecon.engine.util.HibernateUtil;
 
 @Entity
 @Table(name = "GoodTypeOwnership")
 public class GoodTypeOwnershipImpl implements GoodTypeOwnership {
 
+	/**
+	 * owned amounts indexed by the ordinals of the good types; primary
+	 * representation, which avoids hashing and boxing on each access
+	 */
+	@Transient
+	private double[] balances;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.TABLE)
 	protected int id;
 
+	/**
+	 * persistent representation of the balances; kept in sync only when Hibernate
+	 * is active
+	 */
 	@ElementCollection
 	@CollectionTable(name = "GoodTypeOwnership_OwnedGoodTypes", joinColumns = @JoinColumn(name = "goodtypeownership_id"))
 	@MapKeyEnumerated(EnumType.STRING)
@@ -62,13 +76,42 @@ public class GoodTypeOwnershipImpl implements GoodTypeOwnership {
 		}
 	}
 
+	/**
+	 * initializes the balances from the persistent representation, which has been
+	 * loaded by Hibernate in case
+	 */
+	private double[] assureBalances() {
+		if (balances == null) {
+			final double[] initialBalances = new double[GoodType.values().length];
+			for (final Entry<GoodType, Double> entry : ownedGoodTypes.entrySet()) {
+				initialBalances[entry.getKey().ordinal()] = entry.getValue();
+			}
+			balances = initialBalances;
+		}
+		return balances;
+	}
+
+	@Override
+	public double getBalance(final GoodType goodType) {
+		return assureBalances()[goodType.ordinal()];
+	}
+
+	@Override
+	public double[] getBalances() {
+		return assureBalances().clone();
+	}
+
 	@Override
 	public int getId() {
 		return id;
 	}
 
-	@Override
 	public Map<GoodType, Double> getOwnedGoodTypes() {
+		if (balances != null) {
+			for (final GoodType goodType : GoodType.values()) {
+				ownedGoodTypes.put(goodType, balances[goodType.ordinal()]);
+			}
+		}
 		return ownedGoodTypes;
 	}
 
@@ -77,12 +120,22 @@ public class GoodTypeOwnershipImpl implements GoodTypeOwnership {
 		return propertyOwner;
 	}
 
+	@Override
+	public void setBalance(final GoodType goodType, final double balance) {
+		assureBalances()[goodType.ordinal()] = balance;
+
+		if (HibernateUtil.isActive()) {
+			ownedGoodTypes.put(goodType, balance);
+		}
+	}
+
 	public void setId(final int id) {
 		this.id = id;
 	}
 
 	public void setOwnedGoodTypes(final Map<GoodType, Double> ownedGoodTypes) {
 		this.ownedGoodTypes = ownedGoodTypes;
+		balances = null;
 	}
 
 	public void setPropertyOwner(final PropertyOwner propertyOwner) {
@@ -91,6 +144,6 @@ public class GoodTypeOwnershipImpl implements GoodTypeOwnership {
 
 	@Override
 	public String toString() {
-		return "id=[" + id + "], propertyOwner=[" + propertyOwner + "], ownedGoodTypes=[" + ownedGoodTypes + "]";
+		return "id=[" + id + "], propertyOwner=[" + propertyOwner + "], ownedGoodTypes=[" + getOwnedGoodTypes() + "]";
 	}
 }
@@ -35,5 +35,24 @@ public interface Bank extends Agent, JointStockCompany {
 	public BankAccount openBankAccount(final BankCustomer customer, final Currency currency,
 			final boolean overdraftPossible, final String name, final TermType termType, final MoneyType moneyType);
 
-	public void transferMoney(final BankAccount from, final BankAccount to, final double amount, final String subject);
+	public void transferMoney(final BankAccount from, final BankAccount to, final double amount,
+			final TransferReason reason);
+
+	/**
+	 * @param quantity quantity the transfer refers to, e. g. the amount of a good
+	 *                 type bought
+	 * @param object   object the transfer refers to, e. g. the good type bought
+	 */
+	public void transferMoney(final BankAccount from, final BankAccount to, final double amount,
+			final TransferReason reason, final double quantity, final Object object);
+
+	/**
+	 * transfers money from one bank account to many bank accounts; the sender is
+	 * debited once. Without overdraft the balance of the sender has to cover the
+	 * sum of the amounts.
+	 *
+	 * @param amounts amounts[i] is transferred to bank account to[i]
+	 */
+	public void transferMoneyToMany(final BankAccount from, final BankAccount[] to, final double[] amounts,
+			final TransferReason reason);
 }
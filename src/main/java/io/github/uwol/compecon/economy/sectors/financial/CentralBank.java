@@ -37,5 +37,12 @@ public interface CentralBank extends Bank {
 
 	public double getReserveRatio();
 
+	/**
+	 * market tick of a good type in the currency of this central bank for the
+	 * price statistics
+	 */
+	public void onMarketTick(final GoodType goodType, final double pricePerUnit, final double amount);
+
 	public void obtainTender(final BankAccount moneyReservesBankAccount, final List<FixedRateBond> bonds);
+
 }
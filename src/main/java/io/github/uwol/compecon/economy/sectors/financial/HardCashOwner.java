@@ -20,4 +20,12 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 package io.github.uwol.compecon.economy.sectors.financial;
 
 public interface HardCashOwner {
+
+	/**
+	 * @return row of the owner in the hard cash ledger; -1, if no row has been
+	 *         assigned
+	 */
+	public int getHardCashSlot();
+
+	public void setHardCashSlot(final int hardCashSlot);
 }
@@ -0,0 +1,85 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.economy.sectors.financial;
+
+import io.github.uwol.compecon.math.util.MathUtil;
+
+/**
+ * Reason of a money transfer. Transfers carry the reason together with an
+ * optional quantity and object, e. g. the amount and good type of a market
+ * settlement; the text of the reason is rendered only, if a log consumer
+ * requires it.
+ */
+public enum TransferReason {
+
+	BOND_COUPON("bond coupon"),
+
+	BOND_FACE_VALUE("bond face value"),
+
+	BOND_PAYMENT("payment for %2$s"),
+
+	COMMODITY_CURRENCY("transfer of %1$s units of commoditycurrency %2$s") {
+		@Override
+		protected Object formatQuantity(final double quantity) {
+			return Currency.formatMoneySum(quantity);
+		}
+	},
+
+	CONVERTING_PROFIT_TO_DIVIDEND("converting profit to dividend"),
+
+	DEFICIT_SPENDING("deficit spending"),
+
+	DIVIDEND("dividend"),
+
+	EVENING_UP_OF_CLOSED_BANK_ACCOUNT("evening-up of closed bank account"),
+
+	GOVERNMENT_TRANSFER("government transfer"),
+
+	NATIONAL_INTEREST("national interest"),
+
+	PAYMENT("payment"),
+
+	PRICE_FOR_COMMODITY("price for %1$s units of %2$s"),
+
+	RETIREMENT_DISSAVINGS("retirement dissavings"),
+
+	RETIREMENT_SAVINGS("retirement savings");
+
+	private final String pattern;
+
+	private TransferReason(final String pattern) {
+		this.pattern = pattern;
+	}
+
+	protected Object formatQuantity(final double quantity) {
+		return MathUtil.round(quantity);
+	}
+
+	/**
+	 * @param quantity quantity the transfer refers to; NaN, if not applicable
+	 * @param object   object the transfer refers to; null, if not applicable
+	 */
+	public String render(final double quantity, final Object object) {
+		if (pattern.indexOf('%') < 0) {
+			return pattern;
+		}
+		return String.format(pattern, formatQuantity(quantity), object);
+	}
+}
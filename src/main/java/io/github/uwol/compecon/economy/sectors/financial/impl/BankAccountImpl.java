@@ -31,6 +31,8 @@ import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 import javax.persistence.Transient;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Index;
 
 import io.github.uwol.compecon.economy.agent.impl.AgentImpl;
@@ -38,11 +40,18 @@ import io.github.uwol.compecon.economy.sectors.financial.Bank;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
 import io.github.uwol.compecon.economy.sectors.financial.BankCustomer;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.engine.util.HibernateUtil;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "BankAccount")
 public class BankAccountImpl implements BankAccount {
 
+	/**
+	 * persistent representation of the balance; the primary representation is
+	 * the slot in the ledger of the managing bank, if registered. Kept in sync
+	 * only when Hibernate is active.
+	 */
 	@Column(name = "balance")
 	protected double balance;
 
@@ -55,6 +64,12 @@ public class BankAccountImpl implements BankAccount {
 	@GeneratedValue(strategy = GenerationType.AUTO)
 	protected int id;
 
+	@Transient
+	protected BankAccountLedger ledger;
+
+	@Transient
+	protected int ledgerSlot = -1;
+
 	@ManyToOne(targetEntity = BankImpl.class)
 	@JoinColumn(name = "managingBank_id")
 	@Index(name = "IDX_BA_MANAGINGBANK")
@@ -82,11 +97,14 @@ public class BankAccountImpl implements BankAccount {
 	public void deposit(final double amount) {
 		assert (!Double.isNaN(amount) && !Double.isInfinite(amount) && amount >= 0.0);
 
-		balance = balance + amount;
+		setBalance(getBalance() + amount);
 	}
 
 	@Override
 	public double getBalance() {
+		if (ledger != null) {
+			return ledger.balances[ledgerSlot];
+		}
 		return balance;
 	}
 
@@ -131,6 +149,13 @@ public class BankAccountImpl implements BankAccount {
 	}
 
 	public void setBalance(final double balance) {
+		if (ledger != null) {
+			ledger.setBalance(ledgerSlot, balance);
+
+			if (!HibernateUtil.isActive()) {
+				return;
+			}
+		}
 		this.balance = balance;
 	}
 
@@ -168,7 +193,7 @@ public class BankAccountImpl implements BankAccount {
 
 	@Override
 	public String toString() {
-		return "BankAccount [ID: " + id + ", Balance: " + Currency.formatMoneySum(balance) + " " + currency + ", Name: "
+		return "BankAccount [ID: " + id + ", Balance: " + Currency.formatMoneySum(getBalance()) + " " + currency + ", Name: "
 				+ name + ", Owner: " + owner + "]";
 	}
 
@@ -176,9 +201,9 @@ public class BankAccountImpl implements BankAccount {
 	@Transient
 	public void withdraw(final double amount) {
 		assert (!Double.isNaN(amount) && !Double.isInfinite(amount) && amount >= 0.0);
-		assert (amount <= balance || overdraftPossible);
+		assert (amount <= getBalance() || overdraftPossible);
 
-		balance = balance - amount;
+		setBalance(getBalance() - amount);
 	}
 
 }
@@ -0,0 +1,309 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.economy.sectors.financial.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.uwol.compecon.economy.sectors.financial.BankCustomer;
+import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.engine.util.HibernateUtil;
+
+/**
+ * Columnar ledger of the bank accounts managed by a bank. Balances, currencies
+ * and owner types are held in primitive arrays indexed by the slot of the
+ * account; {@link BankAccountImpl} instances are handles onto their
+ * slot. Slots of deregistered accounts are zeroed and recycled.<br />
+ * <br />
+ * The sums of positive and negative balances per currency are maintained on
+ * every balance change, so that balance sheets and money reserve checks do not
+ * have to iterate over the bank accounts.
+ */
+public class BankAccountLedger {
+
+	protected double[] balances = new double[16];
+
+	protected int[] currencies = new int[16];
+
+	protected int[] freeSlots = new int[16];
+
+	protected BankAccountImpl[] handles = new BankAccountImpl[16];
+
+	/**
+	 * 1.0 for accounts of customers, which bear interest, 0.0 for accounts of the
+	 * bank itself and for free slots
+	 */
+	protected double[] interestBearing = new double[16];
+
+	protected int numberOfFreeSlots = 0;
+
+	protected int numberOfSlots = 0;
+
+	protected int[] ownerTypeIndices = new int[16];
+
+	/**
+	 * distinct classes of the owners of the accounts, indexed by owner type
+	 * index
+	 */
+	protected final List<Class<? extends BankCustomer>> ownerTypes = new ArrayList<Class<? extends BankCustomer>>();
+
+	/**
+	 * interest posted to each slot in the last interest calculation
+	 */
+	protected double[] postedInterest = new double[16];
+
+	/**
+	 * sum of positive balances per currency ordinal, i. e. borrowings of the bank
+	 * from its customers
+	 */
+	protected final double[] sumsOfBorrowings = new double[Currency.values().length];
+
+	/**
+	 * sum of negative balances per currency ordinal as a positive number, i. e.
+	 * loans of the bank to its customers
+	 */
+	protected final double[] sumsOfLoans = new double[Currency.values().length];
+
+	/**
+	 * @param sign 1.0 for adding the balance to the sums, -1.0 for removing it
+	 */
+	protected void addToSums(final int slot, final double balance, final double sign) {
+		if (balance > 0.0) {
+			sumsOfBorrowings[currencies[slot]] += sign * balance;
+		} else {
+			sumsOfLoans[currencies[slot]] -= sign * balance;
+		}
+	}
+
+	protected void assureCapacity(final int capacity) {
+		if (capacity > balances.length) {
+			final int newLength = Math.max(capacity, balances.length * 2);
+
+			final double[] newBalances = new double[newLength];
+			System.arraycopy(balances, 0, newBalances, 0, balances.length);
+			balances = newBalances;
+
+			final double[] newPostedInterest = new double[newLength];
+			System.arraycopy(postedInterest, 0, newPostedInterest, 0, postedInterest.length);
+			postedInterest = newPostedInterest;
+
+			final int[] newCurrencies = new int[newLength];
+			System.arraycopy(currencies, 0, newCurrencies, 0, currencies.length);
+			currencies = newCurrencies;
+
+			final BankAccountImpl[] newHandles = new BankAccountImpl[newLength];
+			System.arraycopy(handles, 0, newHandles, 0, handles.length);
+			handles = newHandles;
+
+			final double[] newInterestBearing = new double[newLength];
+			System.arraycopy(interestBearing, 0, newInterestBearing, 0, interestBearing.length);
+			interestBearing = newInterestBearing;
+
+			final int[] newOwnerTypeIndices = new int[newLength];
+			System.arraycopy(ownerTypeIndices, 0, newOwnerTypeIndices, 0, ownerTypeIndices.length);
+			ownerTypeIndices = newOwnerTypeIndices;
+		}
+	}
+
+	public void deregister(final BankAccountImpl bankAccount) {
+		final int slot = bankAccount.ledgerSlot;
+
+		if (bankAccount.ledger != this || slot < 0) {
+			return;
+		}
+
+		assert (handles[slot] == bankAccount);
+
+		// the handle keeps its last balance, when detached from the ledger
+		bankAccount.balance = balances[slot];
+		bankAccount.ledger = null;
+		bankAccount.ledgerSlot = -1;
+
+		addToSums(slot, balances[slot], -1.0);
+		balances[slot] = 0.0;
+		postedInterest[slot] = 0.0;
+		handles[slot] = null;
+		interestBearing[slot] = 0.0;
+
+		if (numberOfFreeSlots == freeSlots.length) {
+			final int[] newFreeSlots = new int[freeSlots.length * 2];
+			System.arraycopy(freeSlots, 0, newFreeSlots, 0, freeSlots.length);
+			freeSlots = newFreeSlots;
+		}
+		freeSlots[numberOfFreeSlots++] = slot;
+	}
+
+	public void deregisterAll() {
+		for (int slot = 0; slot < numberOfSlots; slot++) {
+			if (handles[slot] != null) {
+				deregister(handles[slot]);
+			}
+		}
+	}
+
+	public BankAccountImpl getHandle(final int slot) {
+		return handles[slot];
+	}
+
+	public int getNumberOfOwnerTypes() {
+		return ownerTypes.size();
+	}
+
+	public int getNumberOfSlots() {
+		return numberOfSlots;
+	}
+
+	public Class<? extends BankCustomer> getOwnerType(final int ownerTypeIndex) {
+		return ownerTypes.get(ownerTypeIndex);
+	}
+
+	public int getOwnerTypeIndex(final int slot) {
+		return ownerTypeIndices[slot];
+	}
+
+	/**
+	 * @return interest posted to the slot in the last interest calculation;
+	 *         positive, if credited to the customer
+	 */
+	public double getPostedInterest(final int slot) {
+		return postedInterest[slot];
+	}
+
+	public double getSumOfBorrowings(final Currency currency) {
+		return sumsOfBorrowings[currency.ordinal()];
+	}
+
+	public double getSumOfLoans(final Currency currency) {
+		return sumsOfLoans[currency.ordinal()];
+	}
+
+	/**
+	 * Posts daily interest on all accounts of customers in one pass over the
+	 * balances. Positive interest is credited at the given rate, negative interest
+	 * is debited at the rate multiplied with the debit margin factor. The posted
+	 * amounts are available by {@link #getPostedInterest(int)} afterwards.
+	 *
+	 * @return net interest credited to the customers; to be booked against the
+	 *         account of the bank
+	 */
+	public double postInterest(final double dailyInterestRate, final double debitMarginFactor) {
+		final double[] balances = this.balances;
+		final double[] interestBearing = this.interestBearing;
+		final double[] postedInterest = this.postedInterest;
+		final int numberOfSlots = this.numberOfSlots;
+
+		double netInterest = 0.0;
+
+		for (int slot = 0; slot < numberOfSlots; slot++) {
+			final double interest = balances[slot] * dailyInterestRate * interestBearing[slot];
+			final double posted = interest > 0.0 ? interest : interest * debitMarginFactor;
+			balances[slot] += posted;
+			postedInterest[slot] = posted;
+			netInterest += posted;
+		}
+
+		// all balances have been touched -> recalculate the sums, which also
+		// resets accumulated rounding errors
+		recalculateSums(sumsOfBorrowings, sumsOfLoans);
+
+		if (HibernateUtil.isActive()) {
+			for (int slot = 0; slot < numberOfSlots; slot++) {
+				if (handles[slot] != null) {
+					handles[slot].balance = balances[slot];
+				}
+			}
+		}
+
+		return netInterest;
+	}
+
+	protected void recalculateSums(final double[] sumsOfBorrowings, final double[] sumsOfLoans) {
+		Arrays.fill(sumsOfBorrowings, 0.0);
+		Arrays.fill(sumsOfLoans, 0.0);
+
+		for (int slot = 0; slot < numberOfSlots; slot++) {
+			if (balances[slot] > 0.0) {
+				sumsOfBorrowings[currencies[slot]] += balances[slot];
+			} else {
+				sumsOfLoans[currencies[slot]] -= balances[slot];
+			}
+		}
+	}
+
+	public void register(final BankAccountImpl bankAccount) {
+		assert (bankAccount.ledger == null);
+
+		final int slot;
+		if (numberOfFreeSlots > 0) {
+			slot = freeSlots[--numberOfFreeSlots];
+		} else {
+			slot = numberOfSlots++;
+			assureCapacity(numberOfSlots);
+		}
+
+		final Class<? extends BankCustomer> ownerType = bankAccount.getOwner().getClass();
+		int ownerTypeIndex = ownerTypes.indexOf(ownerType);
+		if (ownerTypeIndex < 0) {
+			ownerTypeIndex = ownerTypes.size();
+			ownerTypes.add(ownerType);
+		}
+
+		balances[slot] = bankAccount.balance;
+		postedInterest[slot] = 0.0;
+		currencies[slot] = bankAccount.getCurrency().ordinal();
+		handles[slot] = bankAccount;
+		interestBearing[slot] = bankAccount.getOwner() != bankAccount.getManagingBank() ? 1.0 : 0.0;
+		ownerTypeIndices[slot] = ownerTypeIndex;
+
+		bankAccount.ledger = this;
+		bankAccount.ledgerSlot = slot;
+
+		addToSums(slot, balances[slot], 1.0);
+	}
+
+	public void setBalance(final int slot, final double balance) {
+		addToSums(slot, balances[slot], -1.0);
+		balances[slot] = balance;
+		addToSums(slot, balance, 1.0);
+	}
+
+	/**
+	 * recalculates the sums of balances from scratch; for assertions only
+	 *
+	 * @return true, if the maintained sums match the recalculated sums
+	 */
+	public boolean sumsAreConsistent() {
+		final double[] recalculatedSumsOfBorrowings = new double[sumsOfBorrowings.length];
+		final double[] recalculatedSumsOfLoans = new double[sumsOfLoans.length];
+		recalculateSums(recalculatedSumsOfBorrowings, recalculatedSumsOfLoans);
+
+		for (int i = 0; i < sumsOfBorrowings.length; i++) {
+			// relative tolerance, as rounding errors scale with the sums
+			final double tolerance = 1e-9 * (1.0 + recalculatedSumsOfBorrowings[i] + recalculatedSumsOfLoans[i]);
+
+			if (Math.abs(sumsOfBorrowings[i] - recalculatedSumsOfBorrowings[i]) > tolerance
+					|| Math.abs(sumsOfLoans[i] - recalculatedSumsOfLoans[i]) > tolerance) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -87,6 +87,12 @@ public abstract class BankImpl extends JointStockCompanyImpl implements Bank {
 		}
 	};
 
+	/**
+	 * columnar ledger of the bank accounts managed by this bank
+	 */
+	@Transient
+	protected final BankAccountLedger bankAccountLedger = new BankAccountLedger();
+
 	@Transient
 	protected void assertBankAccountIsManagedByThisBank(final BankAccount bankAccount) {
 		assert (bankAccount.getManagingBank() == this);
@@ -103,7 +109,7 @@ public abstract class BankImpl extends JointStockCompanyImpl implements Bank {
 
 	@Transient
 	protected void assertIsCustomerOfThisBank(final BankCustomer customer) {
-		assert (ApplicationContext.getInstance().getBankAccountDAO().findAll(this, customer).size() > 0);
+		assert (ApplicationContext.getInstance().getBankAccountDAO().hasAccount(this, customer));
 	}
 
 	@Transient
@@ -149,11 +155,24 @@ public abstract class BankImpl extends JointStockCompanyImpl implements Bank {
 		}
 
 		// mandatory, so that this bank is removed from the DAOs index structure
+		bankAccountLedger.deregisterAll();
 		ApplicationContext.getInstance().getBankAccountFactory().deleteAllBankAccounts(this);
 
 		super.deconstruct();
 	}
 
+	/**
+	 * detaches the bank accounts of the customer from the ledger and deletes them
+	 */
+	@Transient
+	protected void deleteBankAccounts(final BankCustomer customer) {
+		for (final BankAccount bankAccount : ApplicationContext.getInstance().getBankAccountDAO().findAll(this,
+				customer)) {
+			bankAccountLedger.deregister((BankAccountImpl) bankAccount);
+		}
+		ApplicationContext.getInstance().getBankAccountFactory().deleteAllBankAccounts(this, customer);
+	}
+
 	public BankAccount getBankAccountBondLoan() {
 		return bankAccountBondLoan;
 	}
@@ -174,6 +193,11 @@ public abstract class BankImpl extends JointStockCompanyImpl implements Bank {
 		return bankAccountInterestTransactionsDelegate;
 	}
 
+	@Transient
+	public BankAccountLedger getBankAccountLedger() {
+		return bankAccountLedger;
+	}
+
 	@Transient
 	public List<BankAccount> getBankAccounts(final BankCustomer customer) {
 		return ApplicationContext.getInstance().getBankAccountDAO().findAll(this, customer);
@@ -188,7 +212,7 @@ public abstract class BankImpl extends JointStockCompanyImpl implements Bank {
 	public Set<BankCustomer> getCustomers() {
 		final Set<BankCustomer> customers = new HashSet<BankCustomer>();
 		for (final BankAccount bankAccount : ApplicationContext.getInstance().getBankAccountDAO()
-				.findAllBankAccountsManagedByBank(this)) {
+				.findAllBankAccountsManagedByBankView(this)) {
 			customers.add(bankAccount.getOwner());
 		}
 		return customers;
@@ -209,17 +233,12 @@ public abstract class BankImpl extends JointStockCompanyImpl implements Bank {
 		final BalanceSheetDTO balanceSheet = super.issueBalanceSheet();
 
 		// bank accounts of customers managed by this bank
-		for (final BankAccount bankAccount : ApplicationContext.getInstance().getBankAccountDAO()
-				.findAllBankAccountsManagedByBank(this)) {
-			assert (bankAccount.getCurrency().equals(primaryCurrency));
-
-			if (bankAccount.getBalance() > 0.0) { // passive account
-				balanceSheet.bankBorrowings += bankAccount.getBalance();
-			} else {
-				// active account
-				balanceSheet.bankLoans += bankAccount.getBalance() * -1.0;
-			}
-		}
+		assert (bankAccountLedger.sumsAreConsistent());
+
+		// passive accounts
+		balanceSheet.bankBorrowings += bankAccountLedger.getSumOfBorrowings(primaryCurrency);
+		// active accounts
+		balanceSheet.bankLoans += bankAccountLedger.getSumOfLoans(primaryCurrency);
 
 		// bank account for financing bonds
 		balanceSheet.addBankAccountBalance(bankAccountBondLoan);
@@ -253,6 +272,7 @@ public abstract class BankImpl extends JointStockCompanyImpl implements Bank {
 
 		final BankAccount bankAccount = ApplicationContext.getInstance().getBankAccountFactory()
 				.newInstanceBankAccount(customer, currency, overdraftPossible, this, name, termType, moneyType);
+		bankAccountLedger.register((BankAccountImpl) bankAccount);
 		return bankAccount;
 	}
 
@@ -22,7 +22,7 @@ package io.github.uwol.compecon.economy.sectors.financial.impl;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -34,6 +34,8 @@ import org.hibernate.annotations.Index;
 
 import io.github.uwol.compecon.economy.bookkeeping.impl.BalanceSheetDTO;
 import io.github.uwol.compecon.economy.materia.GoodType;
+import io.github.uwol.compecon.economy.property.Property;
+import io.github.uwol.compecon.economy.property.PropertyOwner;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount.MoneyType;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount.TermType;
@@ -42,8 +44,10 @@ import io.github.uwol.compecon.economy.sectors.financial.BankCustomer;
 import io.github.uwol.compecon.economy.sectors.financial.CentralBank;
 import io.github.uwol.compecon.economy.sectors.financial.CreditBank;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.sectors.state.State;
 import io.github.uwol.compecon.economy.security.debt.FixedRateBond;
+import io.github.uwol.compecon.economy.security.debt.impl.BondPortfolioBook;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.timesystem.TimeSystemEvent;
 import io.github.uwol.compecon.engine.timesystem.impl.DayType;
@@ -70,28 +74,31 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 			final double monthlyInterestRate = MathUtil.calculateMonthlyNominalInterestRate(effectiveKeyInterestRate);
 			final double dailyInterestRate = monthlyInterestRate / 30.0;
 
-			for (final BankAccount bankAccount : ApplicationContext.getInstance().getBankAccountDAO()
-					.findAllBankAccountsManagedByBank(CentralBankImpl.this)) {
-				if (bankAccount.getOwner() != CentralBankImpl.this) {
-					assert (CentralBankImpl.this.primaryCurrency.equals(bankAccount.getCurrency()));
-
-					final double dailyInterest = bankAccount.getBalance() * dailyInterestRate;
-
-					// liability account & positive interest rate or asset
-					// account & negative interest rate
-					if (dailyInterest > 0.0) {
-						transferMoneyInternally(CentralBankImpl.this.bankAccountTransactions, bankAccount,
-								dailyInterest);
-					}
-					// asset account & positive interest rate or liability
-					// account & negative interest rate
-					else if (dailyInterest < 0.0) {
-						final double absDailyInterest = -1.0 * dailyInterest;
-						transferMoneyInternally(bankAccount, CentralBankImpl.this.bankAccountTransactions,
-								absDailyInterest);
-					}
-				}
-			}
+			ApplicationContext.getInstance().getBankAccountDAO().forEachBankAccountManagedByBank(
+					CentralBankImpl.this, new Consumer<BankAccount>() {
+						@Override
+						public void accept(final BankAccount bankAccount) {
+							if (bankAccount.getOwner() != CentralBankImpl.this) {
+								assert (CentralBankImpl.this.primaryCurrency.equals(bankAccount.getCurrency()));
+
+								final double dailyInterest = bankAccount.getBalance() * dailyInterestRate;
+
+								// liability account & positive interest rate or asset
+								// account & negative interest rate
+								if (dailyInterest > 0.0) {
+									transferMoneyInternally(CentralBankImpl.this.bankAccountTransactions, bankAccount,
+											dailyInterest);
+								}
+								// asset account & positive interest rate or liability
+								// account & negative interest rate
+								else if (dailyInterest < 0.0) {
+									final double absDailyInterest = -1.0 * dailyInterest;
+									transferMoneyInternally(bankAccount, CentralBankImpl.this.bankAccountTransactions,
+											absDailyInterest);
+								}
+							}
+						}
+					});
 
 			// profits are transferred to the state, instead of dividends to
 			// share holders etc. (seigniorage)
@@ -100,12 +107,21 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 
 				CentralBankImpl.this.transferMoney(CentralBankImpl.this.bankAccountTransactions,
 						state.getBankAccountTransactionsDelegate().getBankAccount(),
-						CentralBankImpl.this.bankAccountTransactions.getBalance(), "national interest");
+						CentralBankImpl.this.bankAccountTransactions.getBalance(), TransferReason.NATIONAL_INTEREST);
 			}
 		}
 	}
 
 	public class KeyInterestRateCalculationEvent implements TimeSystemEvent {
+
+		protected int monthNumberOfTargetPriceLevel = -1;
+
+		protected double targetPriceLevelForMonth;
+
+		protected double targetPriceLevelForYear;
+
+		protected int yearNumberOfTargetPriceLevel = -1;
+
 		@Transient
 		protected double calculateEffectiveKeyInterestRate() {
 			final double targetPriceIndexForCurrentPeriod = calculateTargetPriceIndexForPeriod();
@@ -133,15 +149,26 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 		protected double calculateTargetPriceIndexForPeriod() {
 			final int yearNumber = ApplicationContext.getInstance().getTimeSystem().getCurrentYear()
 					- ApplicationContext.getInstance().getTimeSystem().getStartYear();
-			final double targetPriceLevelForYear = Math.pow(
-					(1.0 + ApplicationContext.getInstance().getConfiguration().centralBankConfig.getInflationTarget()),
-					yearNumber);
+			final int monthNumber = ApplicationContext.getInstance().getTimeSystem().getCurrentMonthNumberInYear();
 
 			final double monthlyNominalInflationTarget = MathUtil.calculateMonthlyNominalInterestRate(
 					ApplicationContext.getInstance().getConfiguration().centralBankConfig.getInflationTarget());
 
-			final double targetPriceLevelForMonth = Math.pow(1.0 + monthlyNominalInflationTarget,
-					ApplicationContext.getInstance().getTimeSystem().getCurrentMonthNumberInYear() - 1.0) - 1.0;
+			// the target price levels for year and month change only with the
+			// year and month
+			if (yearNumber != yearNumberOfTargetPriceLevel) {
+				targetPriceLevelForYear = Math.pow(
+						(1.0 + ApplicationContext.getInstance().getConfiguration().centralBankConfig
+								.getInflationTarget()),
+						yearNumber);
+				yearNumberOfTargetPriceLevel = yearNumber;
+			}
+
+			if (monthNumber != monthNumberOfTargetPriceLevel) {
+				targetPriceLevelForMonth = Math.pow(1.0 + monthlyNominalInflationTarget, monthNumber - 1.0) - 1.0;
+				monthNumberOfTargetPriceLevel = monthNumber;
+			}
+
 			final double targetPriceLevelForDay = (monthlyNominalInflationTarget / 30.0)
 					* ApplicationContext.getInstance().getTimeSystem().getCurrentDayNumberInMonth();
 
@@ -161,6 +188,7 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 			// calculate price index
 			statisticalOffice.recalculateAveragePrices();
 			statisticalOffice.recalculatePriceIndex();
+			statisticalOffice.completePeriod();
 
 			final double priceIndex = statisticalOffice.getPriceIndex();
 			getLog().centralBank_PriceIndex(CentralBankImpl.this.primaryCurrency, priceIndex);
@@ -192,25 +220,31 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 
 		protected Map<GoodType, Double> averageMarginalPricesForGoodTypes = new HashMap<GoodType, Double>();
 
-		protected Map<GoodType, double[]> monitoredMarginalPricesForGoodTypesAndPeriods = new HashMap<GoodType, double[]>();
-
 		protected final int NUMBER_OF_LOGGED_PERIODS = 3;
 
 		protected double priceIndex = 0.0;
 
 		protected final Map<GoodType, Double> priceIndexWeights = new HashMap<GoodType, Double>();
 
+		/**
+		 * marginal prices of all good types, not only those in the price index, and
+		 * market ticks
+		 */
+		protected final StreamingPriceIndex streamingPriceIndex;
+
 		public StatisticalOffice() {
 			/*
 			 * set price index weights, must sum up to 1.0
 			 */
 			double priceIndexWeightSum = 0.0;
+			final double[] priceIndexWeightsForOrdinals = new double[GoodType.values().length];
 
 			for (final GoodType goodType : GoodType.values()) {
 				final double priceIndexWeight = ApplicationContext.getInstance()
 						.getConfiguration().centralBankConfig.statisticalOfficeConfig.getPriceIndexWeight(goodType);
 
 				priceIndexWeights.put(goodType, priceIndexWeight);
+				priceIndexWeightsForOrdinals[goodType.ordinal()] = priceIndexWeight;
 				priceIndexWeightSum += priceIndexWeight;
 			}
 
@@ -223,18 +257,26 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 			 * production behaviour
 			 */
 
-			/*
-			 * initialize monitoredMarginalPrices and averageMarginalPricesForGoodTypes;
-			 * prices should be stored for all GoodTypes, not only those in the price index
-			 */
-			for (final GoodType goodType : GoodType.values()) {
-				monitoredMarginalPricesForGoodTypesAndPeriods.put(goodType,
-						new double[NUMBER_OF_LOGGED_PERIODS * NUMBER_OF_MARGINAL_PRICE_SNAPSHOTS_PER_DAY]);
+			streamingPriceIndex = new StreamingPriceIndex(priceIndexWeightsForOrdinals,
+					NUMBER_OF_LOGGED_PERIODS * NUMBER_OF_MARGINAL_PRICE_SNAPSHOTS_PER_DAY);
 
+			for (final GoodType goodType : GoodType.values()) {
 				averageMarginalPricesForGoodTypes.put(goodType, Double.NaN);
 			}
 		}
 
+		/**
+		 * chains the price indices with the market ticks of the completed period and
+		 * publishes them
+		 */
+		protected void completePeriod() {
+			streamingPriceIndex.completePeriod();
+
+			getLog().centralBank_StreamingPriceIndices(CentralBankImpl.this.primaryCurrency,
+					streamingPriceIndex.getEwmaPriceIndex(), streamingPriceIndex.getChainedLaspeyresPriceIndex(),
+					streamingPriceIndex.getChainedPaaschePriceIndex());
+		}
+
 		protected double getAverageMarginalPriceForGoodType(final GoodType goodType) {
 			return averageMarginalPricesForGoodTypes.get(goodType);
 		}
@@ -243,77 +285,28 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 			return priceIndex;
 		}
 
-		protected void recalculateAveragePrices() {
-			// for each monitored good type
-			for (final Entry<GoodType, double[]> entry : monitoredMarginalPricesForGoodTypesAndPeriods.entrySet()) {
-				final double[] monitoredMarginalPricesForGoodType = entry.getValue();
-
-				double priceSumForGoodType = 0.0;
-				double totalWeight = 0;
-
-				// recalculate average price
-				for (int i = 0; i < monitoredMarginalPricesForGoodType.length; i++) {
-					final double marginalPriceForGoodType = monitoredMarginalPricesForGoodType[i];
-
-					if (marginalPriceForGoodType != 0.0 && !Double.isNaN(marginalPriceForGoodType)
-							&& !Double.isInfinite(marginalPriceForGoodType)) {
-						// weight period by age
-						final double weight = monitoredMarginalPricesForGoodType.length - i;
-						priceSumForGoodType += marginalPriceForGoodType * weight;
-						totalWeight += weight;
-					}
-				}
-
-				final double averagePriceForGoodType = priceSumForGoodType / totalWeight;
+		protected void onMarketTick(final GoodType goodType, final double pricePerUnit, final double amount) {
+			streamingPriceIndex.onMarketTick(goodType, pricePerUnit, amount);
+		}
 
-				if (!Double.isNaN(totalWeight) && !Double.isInfinite(totalWeight)) {
-					averageMarginalPricesForGoodTypes.put(entry.getKey(), averagePriceForGoodType);
-				}
+		protected void recalculateAveragePrices() {
+			// averages are maintained on each snapshot -> constant work per good type
+			for (final GoodType goodType : GoodType.values()) {
+				averageMarginalPricesForGoodTypes.put(goodType, streamingPriceIndex.getAveragePrice(goodType));
 			}
 		}
 
 		protected void recalculatePriceIndex() {
-			double newPriceIndex = Double.NaN;
-
-			// for basket of good types
-			for (final Entry<GoodType, Double> entry : priceIndexWeights.entrySet()) {
-				final GoodType goodType = entry.getKey();
-				final Double weight = entry.getValue();
-
-				// average marginal price of the good type
-				final double averageMarginalPrice = averageMarginalPricesForGoodTypes.get(goodType);
-
-				// add marginal price for good type to price index, weighted by
-				// defined weight
-				final double newPriceIndexForGoodType = weight * averageMarginalPrice;
-
-				if (!Double.isNaN(newPriceIndexForGoodType) && !Double.isInfinite(newPriceIndexForGoodType)) {
-					if (Double.isNaN(newPriceIndex) || Double.isInfinite(newPriceIndex)) {
-						newPriceIndex = newPriceIndexForGoodType;
-					} else {
-						newPriceIndex += newPriceIndexForGoodType;
-					}
-				}
-			}
-
-			// store average price index
-			priceIndex = newPriceIndex;
+			priceIndex = streamingPriceIndex.getPriceIndex();
 		}
 
 		protected void takeSnapshotOfMarginalPrices() {
 			// store marginal prices of monitored good types for this period
-			for (final Entry<GoodType, double[]> entry : monitoredMarginalPricesForGoodTypesAndPeriods.entrySet()) {
-				final double[] pricesForGoodType = entry.getValue();
-
-				// fetch and store current price for this good type
+			for (final GoodType goodType : GoodType.values()) {
 				final double marginalPriceForGoodType = ApplicationContext.getInstance().getMarketService()
-						.getMarginalMarketPrice(CentralBankImpl.this.primaryCurrency, entry.getKey());
+						.getMarginalMarketPrice(CentralBankImpl.this.primaryCurrency, goodType);
 
-				if (!Double.isNaN(marginalPriceForGoodType) && !Double.isInfinite(marginalPriceForGoodType)) {
-					// shift prices of older periods for this good type
-					System.arraycopy(pricesForGoodType, 0, pricesForGoodType, 1, pricesForGoodType.length - 1);
-					pricesForGoodType[0] = marginalPriceForGoodType;
-				}
+				streamingPriceIndex.addSnapshot(goodType, marginalPriceForGoodType);
 			}
 		}
 	}
@@ -337,6 +330,12 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 		}
 	};
 
+	/**
+	 * bonds obtained as tender from credit banks
+	 */
+	@Transient
+	protected BondPortfolioBook bondPortfolioBook;
+
 	@Column(name = "effectiveKeyInterestRate")
 	protected double effectiveKeyInterestRate;
 
@@ -400,10 +399,10 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 				if (bankAccountTransactions != null && bankAccount != bankAccountTransactions) {
 					if (bankAccount.getBalance() >= 0) {
 						this.transferMoney(bankAccount, bankAccountTransactions, bankAccount.getBalance(),
-								"evening-up of closed bank account", true);
+								TransferReason.EVENING_UP_OF_CLOSED_BANK_ACCOUNT, Double.NaN, null, true);
 					} else {
 						this.transferMoney(bankAccountTransactions, bankAccount, -1.0 * bankAccount.getBalance(),
-								"evening-up of closed bank account", true);
+								TransferReason.EVENING_UP_OF_CLOSED_BANK_ACCOUNT, Double.NaN, null, true);
 					}
 				}
 				break;
@@ -412,10 +411,10 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 
 					if (bankAccount.getBalance() >= 0) {
 						this.transferMoney(bankAccount, bankAccountCentralBankMoney, bankAccount.getBalance(),
-								"evening-up of closed bank account", true);
+								TransferReason.EVENING_UP_OF_CLOSED_BANK_ACCOUNT, Double.NaN, null, true);
 					} else {
 						this.transferMoney(bankAccountCentralBankMoney, bankAccount, -1.0 * bankAccount.getBalance(),
-								"evening-up of closed bank account", true);
+								TransferReason.EVENING_UP_OF_CLOSED_BANK_ACCOUNT, Double.NaN, null, true);
 					}
 				}
 				break;
@@ -423,7 +422,7 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 			customer.onBankCloseBankAccount(bankAccount);
 		}
 
-		ApplicationContext.getInstance().getBankAccountFactory().deleteAllBankAccounts(this, customer);
+		deleteBankAccounts(customer);
 	}
 
 	@Override
@@ -495,6 +494,11 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 		ApplicationContext.getInstance().getTimeSystem().addEvent(keyInterestRateCalculationEvent, -1, MonthType.EVERY,
 				DayType.EVERY, HourType.HOUR_01);
 
+		// coupons and face values of tendered bonds
+		bondPortfolioBook = new BondPortfolioBook(this, getBankAccountCentralBankMoneyDelegate(),
+				getBankAccountCentralBankMoneyDelegate());
+		bondPortfolioBook.addTimeSystemEvents(timeSystemEvents);
+
 		// count number of snapshots that are taken per day
 		int numberOfSnapshotsPerDay = 0;
 
@@ -528,6 +532,12 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 		return balanceSheet;
 	}
 
+	@Override
+	@Transient
+	public void onMarketTick(final GoodType goodType, final double pricePerUnit, final double amount) {
+		statisticalOffice.onMarketTick(goodType, pricePerUnit, amount);
+	}
+
 	@Override
 	@Transient
 	public void obtainTender(final BankAccount moneyReservesBankAccount, final List<FixedRateBond> bonds) {
@@ -547,8 +557,8 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 
 			assert (bond.getOwner() == this);
 
-			bond.setFaceValueToBankAccountDelegate(getBankAccountCentralBankMoneyDelegate());
-			bond.setCouponToBankAccountDelegate(getBankAccountCentralBankMoneyDelegate());
+			// coupons and face value are transferred per lot of the book
+			bondPortfolioBook.add(bond);
 
 			if (getLog().isAgentSelectedByClient(moneyReservesBankAccount.getOwner())) {
 				getLog().log(moneyReservesBankAccount.getOwner(),
@@ -568,6 +578,19 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 		super.onBankCloseBankAccount(bankAccount);
 	}
 
+	@Override
+	@Transient
+	public void onPropertyTransferred(final Property property, final PropertyOwner oldOwner,
+			final PropertyOwner newOwner) {
+		super.onPropertyTransferred(property, oldOwner, newOwner);
+
+		// bonds leaving the central bank are not settled by the portfolio book
+		// anymore
+		if (oldOwner == this && property instanceof FixedRateBond && bondPortfolioBook != null) {
+			bondPortfolioBook.remove((FixedRateBond) property);
+		}
+	}
+
 	public void setBankAccountCentralBankMoney(final BankAccount bankAccountCentralBankMoney) {
 		this.bankAccountCentralBankMoney = bankAccountCentralBankMoney;
 	}
@@ -583,13 +606,21 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 
 	@Override
 	@Transient
-	public void transferMoney(final BankAccount from, final BankAccount to, final double amount, final String subject) {
-		this.transferMoney(from, to, amount, subject, false);
+	public void transferMoney(final BankAccount from, final BankAccount to, final double amount,
+			final TransferReason reason) {
+		this.transferMoney(from, to, amount, reason, Double.NaN, null, false);
+	}
+
+	@Override
+	@Transient
+	public void transferMoney(final BankAccount from, final BankAccount to, final double amount,
+			final TransferReason reason, final double quantity, final Object object) {
+		this.transferMoney(from, to, amount, reason, quantity, object, false);
 	}
 
 	@Transient
 	protected void transferMoney(final BankAccount from, final BankAccount to, final double amount,
-			final String subject, final boolean negativeAmountOK) {
+			final TransferReason reason, final double quantity, final Object object, final boolean negativeAmountOK) {
 
 		assert (amount >= 0.0 || negativeAmountOK);
 		assert (from != null);
@@ -602,7 +633,7 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 		assertIdenticalMoneyType(from, to);
 
 		if (from.getManagingBank() instanceof CentralBankImpl && to.getManagingBank() instanceof CentralBankImpl) {
-			getLog().bank_onTransfer(from, to, from.getCurrency(), amount, subject);
+			getLog().bank_onTransfer(from, to, from.getCurrency(), amount, reason, quantity, object);
 			transferMoneyInternally(from, to, amount);
 		} else if (from.getManagingBank() instanceof CreditBank && to.getManagingBank() instanceof CentralBankImpl) {
 			transferMoneyFromCreditBankAccountToCentralBankAccount(from, to, amount);
@@ -616,6 +647,18 @@ public class CentralBankImpl extends BankImpl implements CentralBank {
 		assert (toBalanceBefore + amount == to.getBalance());
 	}
 
+	@Override
+	@Transient
+	public void transferMoneyToMany(final BankAccount from, final BankAccount[] to, final double[] amounts,
+			final TransferReason reason) {
+		assert (to.length == amounts.length);
+
+		// transfers from central bank accounts are rare -> no batching
+		for (int i = 0; i < to.length; i++) {
+			this.transferMoney(from, to[i], amounts[i], reason);
+		}
+	}
+
 	@Transient
 	private void transferMoneyFromCentralBankAccountToCreditBankAccount(final BankAccount from, final BankAccount to,
 			final double amount) {
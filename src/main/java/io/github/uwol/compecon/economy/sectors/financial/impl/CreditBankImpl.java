@@ -41,6 +41,7 @@ import io.github.uwol.compecon.economy.behaviour.PricingBehaviour;
 import io.github.uwol.compecon.economy.bookkeeping.impl.BalanceSheetDTO;
 import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.property.Property;
+import io.github.uwol.compecon.economy.property.PropertyOwner;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount.MoneyType;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount.TermType;
@@ -50,9 +51,11 @@ import io.github.uwol.compecon.economy.sectors.financial.CentralBank;
 import io.github.uwol.compecon.economy.sectors.financial.CentralBankCustomer;
 import io.github.uwol.compecon.economy.sectors.financial.CreditBank;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.sectors.household.Household;
 import io.github.uwol.compecon.economy.sectors.state.State;
 import io.github.uwol.compecon.economy.security.debt.FixedRateBond;
+import io.github.uwol.compecon.economy.security.debt.impl.BondPortfolioBook;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.timesystem.TimeSystemEvent;
 import io.github.uwol.compecon.engine.timesystem.impl.DayType;
@@ -74,7 +77,7 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 			double balanceSumOfPassiveBankAccounts = 0.0;
 
 			for (final BankAccount bankAccount : ApplicationContext.getInstance().getBankAccountDAO()
-					.findAllBankAccountsManagedByBank(CreditBankImpl.this)) {
+					.findAllBankAccountsManagedByBankView(CreditBankImpl.this)) {
 
 				assert (bankAccount.getCurrency().equals(CreditBankImpl.this.primaryCurrency));
 
@@ -93,25 +96,9 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 		}
 
 		protected double calculateFaceValueSumOfOwnedBonds() {
-			// bonds bought from other agents
-			double faceValueSumOfBonds = 0.0;
-
-			for (final Property property : ApplicationContext.getInstance().getPropertyService()
-					.findAllPropertiesOfPropertyOwner(CreditBankImpl.this, FixedRateBond.class)) {
-				assert (property instanceof FixedRateBond);
-				final FixedRateBond bond = (FixedRateBond) property;
-				assert (bond.getOwner() == CreditBankImpl.this);
-
-				// if the bond is not issued by this bank -> is not an unsold
-				// bond
-				if (!bond.isDeconstructed() && bond.getIssuer() != CreditBankImpl.this) {
-					// currently only state bonds are bought by credit banks;
-					// TODO can and should be modified
-					assert (bond.getIssuer() instanceof State);
-
-					faceValueSumOfBonds += ((FixedRateBond) property).getFaceValue();
-				}
-			}
+			// bonds bought from other agents are booked into the portfolio
+			// book; currently only state bonds are bought by credit banks
+			final double faceValueSumOfBonds = bondPortfolioBook.getFaceValueSum();
 
 			assert (faceValueSumOfBonds == 0.0
 					|| ApplicationContext.getInstance().getConfiguration().householdConfig.getRetirementSaving());
@@ -165,8 +152,10 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 
 				assert (fixedRateBond.getOwner() == CreditBankImpl.this);
 
-				fixedRateBond.setFaceValueToBankAccountDelegate(getBankAccountBondLoanDelegate());
-				fixedRateBond.setCouponToBankAccountDelegate(getBankAccountInterestTransactionsDelegate());
+				assert (fixedRateBond.getIssuer() instanceof State);
+
+				// coupons and face value are transferred per lot of the book
+				bondPortfolioBook.add(fixedRateBond);
 
 				assert (balanceBeforeTransaction - difference == CreditBankImpl.this.bankAccountBondLoan.getBalance());
 
@@ -177,6 +166,10 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 		}
 	}
 
+	/**
+	 * checks the money reserves once per scheduled event; reserves are topped up
+	 * only, if they fall below the configured lower threshold.
+	 */
 	public class CheckMoneyReservesEvent implements TimeSystemEvent {
 		@Override
 		public boolean isDeconstructed() {
@@ -190,9 +183,21 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 			final CentralBank centralBank = ApplicationContext.getInstance().getAgentService()
 					.findCentralBank(CreditBankImpl.this.primaryCurrency);
 
-			final double sumOfBorrowings = getSumOfBorrowings(CreditBankImpl.this.primaryCurrency);
-			final double moneyReserveGap = sumOfBorrowings * centralBank.getReserveRatio()
-					- bankAccountCentralBankMoneyReserves.getBalance();
+			final double requiredMoneyReserves = getSumOfBorrowings(CreditBankImpl.this.primaryCurrency)
+					* centralBank.getReserveRatio();
+			final double moneyReserves = bankAccountCentralBankMoneyReserves.getBalance();
+
+			// money reserves are rebalanced only, if they fall below the
+			// threshold
+			if (moneyReserves >= requiredMoneyReserves
+					* ApplicationContext.getInstance().getConfiguration().creditBankConfig
+							.getMoneyReservesLowerThreshold()) {
+				return;
+			}
+
+			final double moneyReserveGap = requiredMoneyReserves
+					* ApplicationContext.getInstance().getConfiguration().creditBankConfig.getMoneyReservesTarget()
+					- moneyReserves;
 
 			// not enough money deposited at central bank
 			if (moneyReserveGap > 0.0) {
@@ -502,29 +507,62 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 							.findCentralBank(CreditBankImpl.this.primaryCurrency).getEffectiveKeyInterestRate());
 			final double dailyInterestRate = monthlyInterestRate / 30.0;
 
-			for (final BankAccount bankAccount : ApplicationContext.getInstance().getBankAccountDAO()
-					.findAllBankAccountsManagedByBank(CreditBankImpl.this)) {
-				if (bankAccount.getOwner() != CreditBankImpl.this) {
-					assert (CreditBankImpl.this.primaryCurrency.equals(bankAccount.getCurrency()));
+			/*
+			 * liability account & positive interest rate or asset account & negative
+			 * interest rate -> interest earned for customer; asset account & positive
+			 * interest rate or liability account & negative interest rate -> debt
+			 * interest from customer, credit banks add margin on key interest rate
+			 */
+			final double netInterest = bankAccountLedger.postInterest(dailyInterestRate, 1.5);
 
-					final double dailyInterest = bankAccount.getBalance() * dailyInterestRate;
+			// net flow between the customers and this bank
+			if (netInterest > 0.0) {
+				bankAccountInterestTransactions.withdraw(netInterest);
+			} else if (netInterest < 0.0) {
+				bankAccountInterestTransactions.deposit(-1.0 * netInterest);
+			}
 
-					// liability account & positive interest rate or asset
-					// account & negative interest rate
-					if (dailyInterest > 0.0) {
-						transferMoney(CreditBankImpl.this.bankAccountInterestTransactions, bankAccount, dailyInterest,
-								"interest earned for customer");
-					}
-					// asset account & positive interest rate or liability
-					// account & negative interest rate
-					else if (dailyInterest < 0.0) {
-						// credit banks add margin on key interest rate
-						final double absMarginDailyInterest = -1.0 * dailyInterest * 1.5;
-						transferMoney(bankAccount, CreditBankImpl.this.bankAccountInterestTransactions,
-								absMarginDailyInterest, "debt interest from customer");
-					}
+			logPostedInterest();
+		}
+
+		protected void logPostedInterest() {
+			final int numberOfOwnerTypes = bankAccountLedger.getNumberOfOwnerTypes();
+			final double[] interestEarned = new double[numberOfOwnerTypes];
+			final double[] debtInterest = new double[numberOfOwnerTypes];
+			double totalInterestEarned = 0.0;
+			double totalDebtInterest = 0.0;
+
+			for (int slot = 0; slot < bankAccountLedger.getNumberOfSlots(); slot++) {
+				final double postedInterest = bankAccountLedger.getPostedInterest(slot);
+
+				if (postedInterest > 0.0) {
+					interestEarned[bankAccountLedger.getOwnerTypeIndex(slot)] += postedInterest;
+					totalInterestEarned += postedInterest;
+				} else if (postedInterest < 0.0) {
+					debtInterest[bankAccountLedger.getOwnerTypeIndex(slot)] -= postedInterest;
+					totalDebtInterest -= postedInterest;
+				}
+			}
+
+			for (int ownerTypeIndex = 0; ownerTypeIndex < numberOfOwnerTypes; ownerTypeIndex++) {
+				final Class<? extends BankCustomer> ownerType = bankAccountLedger.getOwnerType(ownerTypeIndex);
+
+				if (interestEarned[ownerTypeIndex] > 0.0) {
+					getLog().bank_onAggregatedTransfer(CreditBankImpl.this.getClass(), ownerType,
+							CreditBankImpl.this.primaryCurrency, interestEarned[ownerTypeIndex]);
+				}
+				if (debtInterest[ownerTypeIndex] > 0.0) {
+					getLog().bank_onAggregatedTransfer(ownerType, CreditBankImpl.this.getClass(),
+							CreditBankImpl.this.primaryCurrency, debtInterest[ownerTypeIndex]);
 				}
 			}
+
+			if (getLog().isAgentSelectedByClient(CreditBankImpl.this)) {
+				getLog().log(CreditBankImpl.this, DailyInterestCalculationEvent.class,
+						"interest earned for customers = %s %s; debt interest from customers = %s %s",
+						Currency.formatMoneySum(totalInterestEarned), CreditBankImpl.this.primaryCurrency,
+						Currency.formatMoneySum(totalDebtInterest), CreditBankImpl.this.primaryCurrency);
+			}
 		}
 	}
 
@@ -580,6 +618,12 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 	@Transient
 	protected Map<Currency, BankAccountDelegate> bankAccountsCurrencyTradeDelegate = new HashMap<Currency, BankAccountDelegate>();
 
+	/**
+	 * bonds bought from other agents
+	 */
+	@Transient
+	protected BondPortfolioBook bondPortfolioBook;
+
 	@Transient
 	protected Map<Currency, PricingBehaviour> localCurrencyPricingBehaviours = new HashMap<Currency, PricingBehaviour>();
 
@@ -687,10 +731,10 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 					// is lost in the monetary system
 					if (bankAccount.getBalance() >= 0) {
 						transferMoney(bankAccount, bankAccountTransactions, bankAccount.getBalance(),
-								"evening-up of closed bank account");
+								TransferReason.EVENING_UP_OF_CLOSED_BANK_ACCOUNT);
 					} else {
 						transferMoney(bankAccountTransactions, bankAccount, -1.0 * bankAccount.getBalance(),
-								"evening-up of closed bank account");
+								TransferReason.EVENING_UP_OF_CLOSED_BANK_ACCOUNT);
 					}
 				}
 			}
@@ -703,7 +747,7 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 			transferBankAccountBalanceToDividendBankAccount(bankAccountTransactions);
 		}
 
-		ApplicationContext.getInstance().getBankAccountFactory().deleteAllBankAccounts(this, customer);
+		deleteBankAccounts(customer);
 	}
 
 	@Override
@@ -724,6 +768,17 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 		bankAccount.deposit(amount);
 	}
 
+	/**
+	 * credits a bank account at this or another credit bank after the sender has
+	 * been debited; money passing the central bank transactions bank account of
+	 * this bank would net to zero, so that credit banks settle transfers between
+	 * each other without the central bank
+	 */
+	@Transient
+	private void depositAtCreditBank(final BankAccount to, final double amount) {
+		((CreditBank) to.getManagingBank()).deposit(to, amount);
+	}
+
 	@Override
 	@Transient
 	public void depositCash(final BankCustomer customer, final BankAccount to, final double amount,
@@ -773,18 +828,9 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 
 	@Transient
 	private double getSumOfBorrowings(final Currency currency) {
-		double sumOfBorrowings = 0;
+		assert (bankAccountLedger.sumsAreConsistent());
 
-		for (final BankAccount creditBankAccount : ApplicationContext.getInstance().getBankAccountDAO()
-				.findAllBankAccountsManagedByBank(CreditBankImpl.this)) {
-			if (creditBankAccount.getCurrency() == currency) {
-				if (creditBankAccount.getBalance() > 0.0) {
-					sumOfBorrowings += creditBankAccount.getBalance();
-				}
-			}
-		}
-
-		return sumOfBorrowings;
+		return bankAccountLedger.getSumOfBorrowings(currency);
 	}
 
 	@Override
@@ -817,6 +863,11 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 		ApplicationContext.getInstance().getTimeSystem().addEventEvery(bondsTradingEvent, -1, MonthType.EVERY,
 				DayType.EVERY, HourType.EVERY);
 
+		// coupons and face values of bought bonds
+		bondPortfolioBook = new BondPortfolioBook(this, getBankAccountBondLoanDelegate(),
+				getBankAccountInterestTransactionsDelegate());
+		bondPortfolioBook.addTimeSystemEvents(timeSystemEvents);
+
 		// pricing behaviours
 		for (final Currency foreignCurrency : Currency.values()) {
 			if (!primaryCurrency.equals(foreignCurrency)) {
@@ -856,6 +907,16 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 		}
 	}
 
+	/**
+	 * @return true, if the transfer to the bank account can be settled in a batch
+	 *         of {@link #transferMoneyToMany(BankAccount, BankAccount[], double[],
+	 *         TransferReason)}
+	 */
+	@Transient
+	private boolean isBatchable(final BankAccount from, final BankAccount to) {
+		return from != to && to.getManagingBank() instanceof CreditBank;
+	}
+
 	@Override
 	@Transient
 	protected BalanceSheetDTO issueBalanceSheet() {
@@ -931,6 +992,18 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 	public void onMarketSettlement(final Property property, final double totalPrice, final Currency currency) {
 	}
 
+	@Override
+	@Transient
+	public void onPropertyTransferred(final Property property, final PropertyOwner oldOwner,
+			final PropertyOwner newOwner) {
+		super.onPropertyTransferred(property, oldOwner, newOwner);
+
+		// bonds leaving the bank are not settled by the portfolio book anymore
+		if (oldOwner == this && property instanceof FixedRateBond && bondPortfolioBook != null) {
+			bondPortfolioBook.remove((FixedRateBond) property);
+		}
+	}
+
 	public void setBankAccountCentralBankMoneyReserves(final BankAccount bankAccountCentralBankMoneyReserves) {
 		this.bankAccountCentralBankMoneyReserves = bankAccountCentralBankMoneyReserves;
 	}
@@ -950,7 +1023,15 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 
 	@Override
 	@Transient
-	public void transferMoney(final BankAccount from, final BankAccount to, final double amount, final String subject) {
+	public void transferMoney(final BankAccount from, final BankAccount to, final double amount,
+			final TransferReason reason) {
+		transferMoney(from, to, amount, reason, Double.NaN, null);
+	}
+
+	@Override
+	@Transient
+	public void transferMoney(final BankAccount from, final BankAccount to, final double amount,
+			final TransferReason reason, final double quantity, final Object object) {
 		assert (!isDeconstructed);
 
 		assureBankAccountCentralBankTransactions();
@@ -968,26 +1049,25 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 		// no Exception for identical bank accounts, as this correctly
 		// might happen in case of bonds etc.
 		if (from != to) {
-			getLog().bank_onTransfer(from, to, from.getCurrency(), amount, subject);
+			getLog().bank_onTransfer(from, to, from.getCurrency(), amount, reason, quantity, object);
 
 			final double fromBalanceBefore = from.getBalance();
 			final double toBalanceBefore = to.getBalance();
 
-			// is the money flowing internally in this bank?
-			if (to.getManagingBank() == this && from.getManagingBank() == this) {
-				// transfer money internally
+			if (to.getManagingBank() instanceof CreditBank) {
+				// transfer money internally or to the customer of another credit bank
 				from.withdraw(amount);
-				to.deposit(amount);
-			} else { // transfer to another bank
+				depositAtCreditBank(to, amount);
+			} else { // transfer to the central bank
 				final CentralBank centralBank = ApplicationContext.getInstance().getAgentService()
 						.findCentralBank(from.getCurrency());
 
 				// transfer money to central bank account of this bank
-				centralBank.transferMoney(from, bankAccountCentralBankTransactions, amount, subject);
+				centralBank.transferMoney(from, bankAccountCentralBankTransactions, amount, reason, quantity, object);
 
 				// transfer money from central bank account of this bank to bank
 				// account at target bank
-				centralBank.transferMoney(bankAccountCentralBankTransactions, to, amount, subject);
+				centralBank.transferMoney(bankAccountCentralBankTransactions, to, amount, reason, quantity, object);
 			}
 
 			assert (MathUtil.equal(bankAccountCentralBankTransactions.getBalance(), 0.0));
@@ -996,6 +1076,43 @@ public class CreditBankImpl extends BankImpl implements CreditBank, CentralBankC
 		}
 	}
 
+	@Override
+	@Transient
+	public void transferMoneyToMany(final BankAccount from, final BankAccount[] to, final double[] amounts,
+			final TransferReason reason) {
+		assert (!isDeconstructed);
+		assert (to.length == amounts.length);
+
+		assertIsCustomerOfThisBank(from.getOwner());
+		assertBankAccountIsManagedByThisBank(from);
+
+		double totalAmount = 0.0;
+		for (int i = 0; i < amounts.length; i++) {
+			assert (amounts[i] >= 0.0);
+			assert (from.getCurrency().equals(to[i].getCurrency()));
+			assertIdenticalMoneyType(from, to[i]);
+
+			if (isBatchable(from, to[i])) {
+				totalAmount += amounts[i];
+			}
+		}
+
+		assert (from.getBalance() >= totalAmount || from.getOverdraftPossible());
+
+		// debit the sender once for all recipients at credit banks
+		from.withdraw(totalAmount);
+
+		for (int i = 0; i < to.length; i++) {
+			if (!isBatchable(from, to[i])) {
+				// recipients at the central bank are transferred individually
+				transferMoney(from, to[i], amounts[i], reason);
+			} else {
+				getLog().bank_onTransfer(from, to[i], from.getCurrency(), amounts[i], reason, Double.NaN, null);
+				depositAtCreditBank(to[i], amounts[i]);
+			}
+		}
+	}
+
 	@Override
 	@Transient
 	public void withdraw(final BankAccount bankAccount, final double amount) {
@@ -0,0 +1,251 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.economy.sectors.financial.impl;
+
+import java.util.Arrays;
+
+import io.github.uwol.compecon.economy.materia.GoodType;
+
+/**
+ * Price statistics of the statistical office with constant cost per update.
+ * Snapshots of marginal prices are kept in a ring buffer per good type with
+ * running sums, from which the average weighted by age is derived; the weights
+ * decrease linearly from the newest to the oldest snapshot. In addition, an
+ * exponentially weighted moving average per good type and price indices
+ * chained daily by the formulas of Laspeyres and Paasche are maintained; the
+ * latter are weighted by the quantities of the market ticks.
+ */
+public class StreamingPriceIndex {
+
+	protected double chainedLaspeyresPriceIndex = 1.0;
+
+	protected double chainedPaaschePriceIndex = 1.0;
+
+	protected final double ewmaAlpha;
+
+	protected final double[] ewmaPrices;
+
+	protected final int[] heads;
+
+	/**
+	 * number of valid snapshots in the window per good type
+	 */
+	protected final double[] numbersOfSnapshots;
+
+	protected final double[] previousPrices;
+
+	protected final double[] previousQuantities;
+
+	/**
+	 * weights of the good types in the price index; sum up to 1.0
+	 */
+	protected final double[] priceIndexWeights;
+
+	/**
+	 * sums of valid snapshots in the window per good type
+	 */
+	protected final double[] priceSums;
+
+	/**
+	 * snapshots of all good types; the window of a good type starts at ordinal *
+	 * windowSize, invalid snapshots are stored as 0.0
+	 */
+	protected final double[] snapshots;
+
+	protected final double[] tickQuantities;
+
+	protected final double[] tickValues;
+
+	/**
+	 * sums of the weights of valid snapshots in the window per good type
+	 */
+	protected final double[] weightSums;
+
+	/**
+	 * sums of valid snapshots weighted by age in the window per good type
+	 */
+	protected final double[] weightedPriceSums;
+
+	protected final int windowSize;
+
+	public StreamingPriceIndex(final double[] priceIndexWeights, final int windowSize) {
+		final int numberOfGoodTypes = GoodType.values().length;
+
+		assert (priceIndexWeights.length == numberOfGoodTypes);
+		assert (windowSize > 0);
+
+		this.priceIndexWeights = priceIndexWeights;
+		this.windowSize = windowSize;
+
+		// span of the exponentially weighted moving average equals the window
+		ewmaAlpha = 2.0 / (windowSize + 1.0);
+
+		ewmaPrices = new double[numberOfGoodTypes];
+		heads = new int[numberOfGoodTypes];
+		numbersOfSnapshots = new double[numberOfGoodTypes];
+		previousPrices = new double[numberOfGoodTypes];
+		previousQuantities = new double[numberOfGoodTypes];
+		priceSums = new double[numberOfGoodTypes];
+		snapshots = new double[numberOfGoodTypes * windowSize];
+		tickQuantities = new double[numberOfGoodTypes];
+		tickValues = new double[numberOfGoodTypes];
+		weightSums = new double[numberOfGoodTypes];
+		weightedPriceSums = new double[numberOfGoodTypes];
+
+		Arrays.fill(ewmaPrices, Double.NaN);
+	}
+
+	/**
+	 * @return price index plus the weighted price; good types without a price are
+	 *         skipped, so that the price index is NaN only if no good type has a
+	 *         price
+	 */
+	protected double addWeightedPrice(final double priceIndex, final double weightedPrice) {
+		if (Double.isNaN(weightedPrice) || Double.isInfinite(weightedPrice)) {
+			return priceIndex;
+		} else if (Double.isNaN(priceIndex)) {
+			return weightedPrice;
+		}
+		return priceIndex + weightedPrice;
+	}
+
+	/**
+	 * adds a snapshot of the marginal price of the good type; NaN and infinite
+	 * prices are ignored, zero prices occupy a slot in the window without being
+	 * averaged
+	 */
+	public void addSnapshot(final GoodType goodType, final double price) {
+		if (Double.isNaN(price) || Double.isInfinite(price)) {
+			return;
+		}
+
+		final int i = goodType.ordinal();
+		final int slot = i * windowSize + heads[i];
+		final double valid = price != 0.0 ? 1.0 : 0.0;
+		final double oldPrice = snapshots[slot];
+		final double oldValid = oldPrice != 0.0 ? 1.0 : 0.0;
+
+		/*
+		 * ageing lowers the weight of each snapshot in the window by 1, the new
+		 * snapshot has weight windowSize, the oldest snapshot with weight 1 drops out
+		 */
+		weightedPriceSums[i] += windowSize * price - priceSums[i];
+		weightSums[i] += windowSize * valid - numbersOfSnapshots[i];
+		priceSums[i] += price - oldPrice;
+		numbersOfSnapshots[i] += valid - oldValid;
+
+		// reset accumulated rounding errors, if the window is empty
+		if (numbersOfSnapshots[i] == 0.0) {
+			weightedPriceSums[i] = 0.0;
+			priceSums[i] = 0.0;
+		}
+
+		snapshots[slot] = price;
+		heads[i] = (heads[i] + 1) % windowSize;
+
+		if (valid > 0.0) {
+			ewmaPrices[i] = Double.isNaN(ewmaPrices[i]) ? price
+					: ewmaAlpha * price + (1.0 - ewmaAlpha) * ewmaPrices[i];
+		}
+	}
+
+	/**
+	 * chains the price indices of Laspeyres and Paasche with the market ticks of
+	 * the completed period; good types, which have been traded in both periods,
+	 * form the basket
+	 */
+	public void completePeriod() {
+		double laspeyresNumerator = 0.0;
+		double laspeyresDenominator = 0.0;
+		double paascheNumerator = 0.0;
+		double paascheDenominator = 0.0;
+
+		for (int i = 0; i < tickQuantities.length; i++) {
+			final double quantity = tickQuantities[i];
+			final double price = quantity > 0.0 ? tickValues[i] / quantity : Double.NaN;
+
+			if (priceIndexWeights[i] > 0.0 && quantity > 0.0 && previousQuantities[i] > 0.0) {
+				laspeyresNumerator += price * previousQuantities[i];
+				laspeyresDenominator += previousPrices[i] * previousQuantities[i];
+				paascheNumerator += price * quantity;
+				paascheDenominator += previousPrices[i] * quantity;
+			}
+
+			previousPrices[i] = price;
+			previousQuantities[i] = quantity;
+			tickQuantities[i] = 0.0;
+			tickValues[i] = 0.0;
+		}
+
+		if (laspeyresDenominator > 0.0 && paascheDenominator > 0.0) {
+			chainedLaspeyresPriceIndex *= laspeyresNumerator / laspeyresDenominator;
+			chainedPaaschePriceIndex *= paascheNumerator / paascheDenominator;
+		}
+	}
+
+	/**
+	 * @return average of the snapshots in the window weighted by age; NaN, if
+	 *         there is no valid snapshot
+	 */
+	public double getAveragePrice(final GoodType goodType) {
+		final int i = goodType.ordinal();
+		return weightedPriceSums[i] / weightSums[i];
+	}
+
+	public double getChainedLaspeyresPriceIndex() {
+		return chainedLaspeyresPriceIndex;
+	}
+
+	public double getChainedPaaschePriceIndex() {
+		return chainedPaaschePriceIndex;
+	}
+
+	/**
+	 * @return price index over the exponentially weighted moving averages of the
+	 *         prices
+	 */
+	public double getEwmaPriceIndex() {
+		double priceIndex = Double.NaN;
+
+		for (int i = 0; i < priceIndexWeights.length; i++) {
+			priceIndex = addWeightedPrice(priceIndex, priceIndexWeights[i] * ewmaPrices[i]);
+		}
+
+		return priceIndex;
+	}
+
+	/**
+	 * @return price index over the averages weighted by age
+	 */
+	public double getPriceIndex() {
+		double priceIndex = Double.NaN;
+
+		for (int i = 0; i < priceIndexWeights.length; i++) {
+			priceIndex = addWeightedPrice(priceIndex, priceIndexWeights[i] * weightedPriceSums[i] / weightSums[i]);
+		}
+
+		return priceIndex;
+	}
+
+	public void onMarketTick(final GoodType goodType, final double pricePerUnit, final double amount) {
+		tickValues[goodType.ordinal()] += pricePerUnit * amount;
+		tickQuantities[goodType.ordinal()] += amount;
+	}
+}
@@ -43,6 +43,7 @@ import io.github.uwol.compecon.economy.sectors.financial.BankAccount.MoneyType;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount.TermType;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccountDelegate;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.sectors.financial.impl.BankAccountImpl;
 import io.github.uwol.compecon.economy.sectors.household.Household;
 import io.github.uwol.compecon.economy.security.equity.Share;
@@ -340,7 +341,7 @@ public class HouseholdImpl extends AgentImpl implements Household {
 				 */
 				HouseholdImpl.this.bankAccountTransactions.getManagingBank().transferMoney(
 						HouseholdImpl.this.bankAccountTransactions, bankAccountSavings, moneySumToSave,
-						"retirement savings");
+						TransferReason.RETIREMENT_SAVINGS);
 				if (getLog().isAgentSelectedByClient(HouseholdImpl.this)) {
 					getLog().log(HouseholdImpl.this, DailyLifeEvent.class, "saving %s %s of %s %s income",
 							Currency.formatMoneySum(moneySumToSave),
@@ -361,7 +362,7 @@ public class HouseholdImpl extends AgentImpl implements Household {
 				 * spend saved retirement money
 				 */
 				HouseholdImpl.this.bankAccountTransactions.getManagingBank().transferMoney(bankAccountSavings,
-						HouseholdImpl.this.bankAccountTransactions, -1.0 * moneySumToSave, "retirement dissavings");
+						HouseholdImpl.this.bankAccountTransactions, -1.0 * moneySumToSave, TransferReason.RETIREMENT_DISSAVINGS);
 
 				if (getLog().isAgentSelectedByClient(HouseholdImpl.this)) {
 					getLog().log(HouseholdImpl.this, "unsaving %s %s", Currency.formatMoneySum(-1.0 * moneySumToSave),
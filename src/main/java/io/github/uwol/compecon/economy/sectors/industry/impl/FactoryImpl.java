@@ -217,9 +217,11 @@ public class FactoryImpl extends JointStockCompanyImpl implements Factory {
 			 */
 			final Map<GoodType, Double> productionFactorsOwned = new HashMap<GoodType, Double>();
 
+			final double[] balances = ApplicationContext.getInstance().getPropertyService()
+					.getGoodTypeBalancesArray(FactoryImpl.this);
+
 			for (final GoodType productionFactor : productionFunction.getInputGoodTypes()) {
-				productionFactorsOwned.put(productionFactor, ApplicationContext.getInstance().getPropertyService()
-						.getGoodTypeBalance(FactoryImpl.this, productionFactor));
+				productionFactorsOwned.put(productionFactor, balances[productionFactor.ordinal()]);
 			}
 
 			final double producedOutput = productionFunction.calculateOutput(productionFactorsOwned);
@@ -19,7 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.economy.sectors.state.impl;
 
-import java.util.List;
+import java.util.Collection;
 
 import javax.persistence.Entity;
 import javax.persistence.JoinColumn;
@@ -41,6 +41,7 @@ import io.github.uwol.compecon.economy.sectors.financial.BankAccountDelegate;
 import io.github.uwol.compecon.economy.sectors.financial.CentralBank;
 import io.github.uwol.compecon.economy.sectors.financial.CreditBank;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.sectors.financial.impl.BankAccountImpl;
 import io.github.uwol.compecon.economy.sectors.household.Household;
 import io.github.uwol.compecon.economy.sectors.state.State;
@@ -73,23 +74,31 @@ public class StateImpl extends AgentImpl implements State {
 			final double budget = StateImpl.this.bankAccountTransactions.getBalance();
 
 			if (MathUtil.greater(budget, 0.0)) {
-				final List<Household> households = ApplicationContext.getInstance().getHouseholdDAO()
-						.findAllByCurrency(StateImpl.this.primaryCurrency);
+				final Collection<Household> households = ApplicationContext.getInstance().getHouseholdDAO()
+						.findAllByCurrencyView(StateImpl.this.primaryCurrency);
 
 				if (households.size() > 0) {
 					final double budgetPerHousehold = budget / households.size();
 
-					for (final Household household : households) {
-						assert (!household.isDeconstructed());
+					final Household[] recipients = households.toArray(new Household[households.size()]);
+					final BankAccount[] householdBankAccounts = new BankAccount[recipients.length];
+					final double[] amounts = new double[recipients.length];
 
-						final BankAccount householdBankAccount = household.getBankAccountGovernmentTransfersDelegate()
+					for (int i = 0; i < recipients.length; i++) {
+						assert (!recipients[i].isDeconstructed());
+
+						householdBankAccounts[i] = recipients[i].getBankAccountGovernmentTransfersDelegate()
 								.getBankAccount();
+						amounts[i] = budgetPerHousehold;
+					}
 
-						StateImpl.this.bankAccountTransactions.getManagingBank().transferMoney(
-								StateImpl.this.bankAccountTransactions, householdBankAccount, budgetPerHousehold,
-								"government transfer");
+					// one bulk transfer to all households
+					StateImpl.this.bankAccountTransactions.getManagingBank().transferMoneyToMany(
+							StateImpl.this.bankAccountTransactions, householdBankAccounts, amounts,
+							TransferReason.GOVERNMENT_TRANSFER);
 
-						household.getBankAccountGovernmentTransfersDelegate().onTransfer(budgetPerHousehold);
+					for (int i = 0; i < recipients.length; i++) {
+						recipients[i].getBankAccountGovernmentTransfersDelegate().onTransfer(amounts[i]);
 					}
 				}
 			}
@@ -145,13 +154,13 @@ public class StateImpl extends AgentImpl implements State {
 	public void doDeficitSpending() {
 		assureBankAccountTransactions();
 
-		for (final CreditBank creditBank : ApplicationContext.getInstance().getAgentService()
-				.findCreditBanks(primaryCurrency)) {
+		for (final CreditBank creditBank : ApplicationContext.getInstance().getCreditBankDAO()
+				.findAllByCurrencyView(primaryCurrency)) {
 			for (final BankAccount bankAccount : ApplicationContext.getInstance().getBankAccountDAO()
-					.findAllBankAccountsManagedByBank(creditBank)) {
+					.findAllBankAccountsManagedByBankView(creditBank)) {
 				if (bankAccount.getOwner() != this) {
 					bankAccountTransactions.getManagingBank().transferMoney(bankAccountTransactions, bankAccount, 5000,
-							"deficit spending");
+							TransferReason.DEFICIT_SPENDING);
 				}
 			}
 		}
@@ -222,7 +231,7 @@ public class StateImpl extends AgentImpl implements State {
 		// transfer money
 		buyerBankAccountDelegate.getBankAccount().getManagingBank().transferMoney(
 				buyerBankAccountDelegate.getBankAccount(), bankAccountTransactions, faceValue,
-				"payment for " + fixedRateBond);
+				TransferReason.BOND_PAYMENT, Double.NaN, fixedRateBond);
 
 		// transfer bond
 		ApplicationContext.getInstance().getPropertyService().transferProperty(fixedRateBond, this, buyer);
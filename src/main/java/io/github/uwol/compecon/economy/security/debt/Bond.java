@@ -22,6 +22,8 @@ package io.github.uwol.compecon.economy.security.debt;
 import io.github.uwol.compecon.economy.property.PropertyIssued;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccountDelegate;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.engine.timesystem.impl.DayType;
+import io.github.uwol.compecon.engine.timesystem.impl.MonthType;
 
 public interface Bond extends PropertyIssued {
 
@@ -36,7 +38,21 @@ public interface Bond extends PropertyIssued {
 
 	public Currency getIssuedInCurrency();
 
+	public DayType getMaturityDayType();
+
+	public MonthType getMaturityMonthType();
+
+	public int getMaturityYear();
+
 	public int getTermInYears();
 
+	/**
+	 * @return true, if coupons and face value are transferred by the portfolio
+	 *         book of the owner instead of the time system events of the bond
+	 */
+	public boolean isSettledByPortfolioBook();
+
 	public void setFaceValueToBankAccountDelegate(final BankAccountDelegate faceValueToBankAccountDelegate);
+
+	public void setSettledByPortfolioBook(final boolean settledByPortfolioBook);
 }
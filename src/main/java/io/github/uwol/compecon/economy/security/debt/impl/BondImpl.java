@@ -33,10 +33,14 @@ import com.google.common.base.Objects;
 import io.github.uwol.compecon.economy.property.impl.PropertyIssuedImpl;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccountDelegate;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.security.debt.Bond;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
+import io.github.uwol.compecon.engine.timesystem.TimeSystem;
 import io.github.uwol.compecon.engine.timesystem.TimeSystemEvent;
+import io.github.uwol.compecon.engine.timesystem.impl.DayType;
 import io.github.uwol.compecon.engine.timesystem.impl.HourType;
+import io.github.uwol.compecon.engine.timesystem.impl.MonthType;
 
 @Entity
 public abstract class BondImpl extends PropertyIssuedImpl implements Bond {
@@ -56,7 +60,7 @@ public abstract class BondImpl extends PropertyIssuedImpl implements Bond {
 			if (faceValueToBankAccountDelegate != null) {
 				faceValueFromBankAccountDelegate.getBankAccount().getManagingBank().transferMoney(
 						faceValueFromBankAccountDelegate.getBankAccount(),
-						faceValueToBankAccountDelegate.getBankAccount(), faceValue, "bond face value");
+						faceValueToBankAccountDelegate.getBankAccount(), faceValue, TransferReason.BOND_FACE_VALUE);
 			}
 			deconstruct(); // delete bond from simulation
 		}
@@ -83,11 +87,39 @@ public abstract class BondImpl extends PropertyIssuedImpl implements Bond {
 	@Enumerated(value = EnumType.STRING)
 	protected Currency issuedInCurrency;
 
+	@Enumerated(value = EnumType.STRING)
+	protected DayType maturityDayType;
+
+	@Enumerated(value = EnumType.STRING)
+	protected MonthType maturityMonthType;
+
+	protected int maturityYear;
+
+	/**
+	 * true, if the bond has been booked into the portfolio book of its owner, which
+	 * then transfers coupons and face value in aggregated lots
+	 */
+	@Transient
+	protected boolean settledByPortfolioBook = false;
+
 	protected int termInYears = 1;
 
 	@Transient
 	protected Set<TimeSystemEvent> timeSystemEvents = new HashSet<TimeSystemEvent>();
 
+	/**
+	 * registers the events, by which the bond transfers its coupons and face value
+	 * itself
+	 */
+	protected void addTimeSystemEvents() {
+		// repay face value event;
+		// has to be at HOUR_01, so that at HOUR_00 the last coupon can be payed
+		final TimeSystemEvent transferFaceValueEvent = new TransferFaceValueEvent();
+		timeSystemEvents.add(transferFaceValueEvent);
+		ApplicationContext.getInstance().getTimeSystem().addEvent(transferFaceValueEvent, maturityYear,
+				maturityMonthType, maturityDayType, HourType.HOUR_01);
+	}
+
 	@Override
 	protected void assertValidIssuer() {
 		super.assertValidIssuer();
@@ -136,6 +168,21 @@ public abstract class BondImpl extends PropertyIssuedImpl implements Bond {
 		return issuedInCurrency;
 	}
 
+	@Override
+	public DayType getMaturityDayType() {
+		return maturityDayType;
+	}
+
+	@Override
+	public MonthType getMaturityMonthType() {
+		return maturityMonthType;
+	}
+
+	@Override
+	public int getMaturityYear() {
+		return maturityYear;
+	}
+
 	@Override
 	public int getTermInYears() {
 		return termInYears;
@@ -145,14 +192,17 @@ public abstract class BondImpl extends PropertyIssuedImpl implements Bond {
 	public void initialize() {
 		super.initialize();
 
-		// repay face value event;
-		// has to be at HOUR_01, so that at HOUR_00 the last coupon can be payed
-		final TimeSystemEvent transferFaceValueEvent = new TransferFaceValueEvent();
-		timeSystemEvents.add(transferFaceValueEvent);
-		ApplicationContext.getInstance().getTimeSystem().addEvent(transferFaceValueEvent,
-				ApplicationContext.getInstance().getTimeSystem().getCurrentYear() + termInYears,
-				ApplicationContext.getInstance().getTimeSystem().getCurrentMonthType(),
-				ApplicationContext.getInstance().getTimeSystem().getCurrentDayType(), HourType.HOUR_01);
+		final TimeSystem timeSystem = ApplicationContext.getInstance().getTimeSystem();
+		maturityYear = timeSystem.getCurrentYear() + termInYears;
+		maturityMonthType = timeSystem.getCurrentMonthType();
+		maturityDayType = timeSystem.getCurrentDayType();
+
+		addTimeSystemEvents();
+	}
+
+	@Override
+	public boolean isSettledByPortfolioBook() {
+		return settledByPortfolioBook;
 	}
 
 	@Override
@@ -179,6 +229,27 @@ public abstract class BondImpl extends PropertyIssuedImpl implements Bond {
 		this.issuedInCurrency = issuedInCurrency;
 	}
 
+	/**
+	 * hands the transfers of coupons and face value over to the portfolio book of
+	 * the owner or takes them back
+	 */
+	@Override
+	@Transient
+	public void setSettledByPortfolioBook(final boolean settledByPortfolioBook) {
+		if (this.settledByPortfolioBook == settledByPortfolioBook || isDeconstructed) {
+			return;
+		}
+
+		this.settledByPortfolioBook = settledByPortfolioBook;
+
+		if (settledByPortfolioBook) {
+			ApplicationContext.getInstance().getTimeSystem().removeEvents(timeSystemEvents);
+			timeSystemEvents.clear();
+		} else {
+			addTimeSystemEvents();
+		}
+	}
+
 	public void setTermInYears(final int termInYears) {
 		this.termInYears = termInYears;
 	}
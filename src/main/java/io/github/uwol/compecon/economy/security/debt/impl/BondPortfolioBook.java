@@ -0,0 +1,343 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.uwol.compecon.economy.security.debt.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import io.github.uwol.compecon.economy.agent.Agent;
+import io.github.uwol.compecon.economy.property.PropertyOwner;
+import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
+import io.github.uwol.compecon.economy.sectors.financial.BankAccountDelegate;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
+import io.github.uwol.compecon.economy.security.debt.FixedRateBond;
+import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
+import io.github.uwol.compecon.engine.timesystem.TimeSystem;
+import io.github.uwol.compecon.engine.timesystem.TimeSystemEvent;
+import io.github.uwol.compecon.engine.timesystem.impl.DayType;
+import io.github.uwol.compecon.engine.timesystem.impl.HourType;
+import io.github.uwol.compecon.engine.timesystem.impl.MonthType;
+import io.github.uwol.compecon.math.util.MathUtil;
+
+/**
+ * Portfolio of the fixed rate bonds held by one owner. Bonds with the same
+ * issuer, issuer bank accounts, coupon and maturity are grouped into lots,
+ * which are held in primitive arrays indexed by lot. Coupons and face values
+ * are transferred per lot in one aggregated transfer per day, instead of by
+ * time system events of each bond.<br />
+ * <br />
+ * Booked bonds remain properties of the holder; if a bond leaves the holder, it
+ * has to be removed from the book, which hands the transfers back to the bond.
+ */
+public class BondPortfolioBook {
+
+	public class RedeemMaturedLotsEvent implements TimeSystemEvent {
+		@Override
+		public boolean isDeconstructed() {
+			return holder.isDeconstructed();
+		}
+
+		@Override
+		public void onEvent() {
+			final TimeSystem timeSystem = ApplicationContext.getInstance().getTimeSystem();
+			redeemMaturedLots(timeSystem.getCurrentYear(), timeSystem.getCurrentMonthType(),
+					timeSystem.getCurrentDayType());
+		}
+	}
+
+	public class TransferCouponsEvent implements TimeSystemEvent {
+		@Override
+		public boolean isDeconstructed() {
+			return holder.isDeconstructed();
+		}
+
+		@Override
+		public void onEvent() {
+			transferCoupons();
+		}
+	}
+
+	protected final List<List<FixedRateBond>> bondsOfLots = new ArrayList<List<FixedRateBond>>();
+
+	protected BankAccountDelegate[] couponFromBankAccountDelegates = new BankAccountDelegate[4];
+
+	protected double[] coupons = new double[4];
+
+	/**
+	 * receiver bank account of the holder for the coupons of all lots
+	 */
+	protected final BankAccountDelegate couponToBankAccountDelegate;
+
+	protected BankAccountDelegate[] faceValueFromBankAccountDelegates = new BankAccountDelegate[4];
+
+	protected double[] faceValueSums = new double[4];
+
+	/**
+	 * receiver bank account of the holder for the face values of all lots
+	 */
+	protected final BankAccountDelegate faceValueToBankAccountDelegate;
+
+	protected final PropertyOwner holder;
+
+	protected Agent[] issuers = new Agent[4];
+
+	protected int[] maturityDayTypes = new int[4];
+
+	protected int[] maturityMonthTypes = new int[4];
+
+	protected int[] maturityYears = new int[4];
+
+	protected int numberOfLots = 0;
+
+	public BondPortfolioBook(final PropertyOwner holder, final BankAccountDelegate faceValueToBankAccountDelegate,
+			final BankAccountDelegate couponToBankAccountDelegate) {
+		this.holder = holder;
+		this.faceValueToBankAccountDelegate = faceValueToBankAccountDelegate;
+		this.couponToBankAccountDelegate = couponToBankAccountDelegate;
+	}
+
+	/**
+	 * books the bond into the lot with equal issuer, coupon and maturity; the bond
+	 * stops to transfer coupons and face value itself.
+	 */
+	public void add(final FixedRateBond bond) {
+		assert (bond.getOwner() == holder);
+		assert (!bond.isDeconstructed());
+		assert (!bond.isSettledByPortfolioBook());
+
+		bond.setFaceValueToBankAccountDelegate(faceValueToBankAccountDelegate);
+		bond.setCouponToBankAccountDelegate(couponToBankAccountDelegate);
+
+		int lot = findLot(bond);
+
+		if (lot < 0) {
+			lot = numberOfLots;
+			assureCapacity(numberOfLots + 1);
+			numberOfLots++;
+
+			issuers[lot] = bond.getIssuer();
+			couponFromBankAccountDelegates[lot] = bond.getCouponFromBankAccountDelegate();
+			faceValueFromBankAccountDelegates[lot] = bond.getFaceValueFromBankAccountDelegate();
+			coupons[lot] = bond.getCoupon();
+			faceValueSums[lot] = 0.0;
+			maturityYears[lot] = bond.getMaturityYear();
+			maturityMonthTypes[lot] = bond.getMaturityMonthType().ordinal();
+			maturityDayTypes[lot] = bond.getMaturityDayType().ordinal();
+			bondsOfLots.add(new ArrayList<FixedRateBond>());
+		}
+
+		faceValueSums[lot] += bond.getFaceValue();
+		bondsOfLots.get(lot).add(bond);
+
+		bond.setSettledByPortfolioBook(true);
+	}
+
+	/**
+	 * registers the events for transferring coupons and face values of the lots.
+	 * Coupons are transferred at HOUR_00, so that the last coupon is payed before
+	 * the redemption of the lot at HOUR_01.
+	 */
+	public void addTimeSystemEvents(final Set<TimeSystemEvent> timeSystemEvents) {
+		final TimeSystemEvent transferCouponsEvent = new TransferCouponsEvent();
+		timeSystemEvents.add(transferCouponsEvent);
+		ApplicationContext.getInstance().getTimeSystem().addEvent(transferCouponsEvent, -1, MonthType.EVERY,
+				DayType.EVERY, HourType.HOUR_00);
+
+		final TimeSystemEvent redeemMaturedLotsEvent = new RedeemMaturedLotsEvent();
+		timeSystemEvents.add(redeemMaturedLotsEvent);
+		ApplicationContext.getInstance().getTimeSystem().addEvent(redeemMaturedLotsEvent, -1, MonthType.EVERY,
+				DayType.EVERY, HourType.HOUR_01);
+	}
+
+	protected void assureCapacity(final int capacity) {
+		if (capacity > coupons.length) {
+			final int newLength = Math.max(capacity, coupons.length * 2);
+
+			final BankAccountDelegate[] newCouponFromBankAccountDelegates = new BankAccountDelegate[newLength];
+			System.arraycopy(couponFromBankAccountDelegates, 0, newCouponFromBankAccountDelegates, 0, numberOfLots);
+			couponFromBankAccountDelegates = newCouponFromBankAccountDelegates;
+
+			final double[] newCoupons = new double[newLength];
+			System.arraycopy(coupons, 0, newCoupons, 0, numberOfLots);
+			coupons = newCoupons;
+
+			final BankAccountDelegate[] newFaceValueFromBankAccountDelegates = new BankAccountDelegate[newLength];
+			System.arraycopy(faceValueFromBankAccountDelegates, 0, newFaceValueFromBankAccountDelegates, 0,
+					numberOfLots);
+			faceValueFromBankAccountDelegates = newFaceValueFromBankAccountDelegates;
+
+			final double[] newFaceValueSums = new double[newLength];
+			System.arraycopy(faceValueSums, 0, newFaceValueSums, 0, numberOfLots);
+			faceValueSums = newFaceValueSums;
+
+			final Agent[] newIssuers = new Agent[newLength];
+			System.arraycopy(issuers, 0, newIssuers, 0, numberOfLots);
+			issuers = newIssuers;
+
+			final int[] newMaturityDayTypes = new int[newLength];
+			System.arraycopy(maturityDayTypes, 0, newMaturityDayTypes, 0, numberOfLots);
+			maturityDayTypes = newMaturityDayTypes;
+
+			final int[] newMaturityMonthTypes = new int[newLength];
+			System.arraycopy(maturityMonthTypes, 0, newMaturityMonthTypes, 0, numberOfLots);
+			maturityMonthTypes = newMaturityMonthTypes;
+
+			final int[] newMaturityYears = new int[newLength];
+			System.arraycopy(maturityYears, 0, newMaturityYears, 0, numberOfLots);
+			maturityYears = newMaturityYears;
+		}
+	}
+
+	/**
+	 * @return lot of bonds with equal issuer, coupon and maturity; -1, if there is
+	 *         none
+	 */
+	protected int findLot(final FixedRateBond bond) {
+		// recent lots are the most likely to match
+		for (int lot = numberOfLots - 1; lot >= 0; lot--) {
+			if (issuers[lot] == bond.getIssuer()
+					&& couponFromBankAccountDelegates[lot] == bond.getCouponFromBankAccountDelegate()
+					&& faceValueFromBankAccountDelegates[lot] == bond.getFaceValueFromBankAccountDelegate()
+					&& coupons[lot] == bond.getCoupon() && maturityYears[lot] == bond.getMaturityYear()
+					&& maturityMonthTypes[lot] == bond.getMaturityMonthType().ordinal()
+					&& maturityDayTypes[lot] == bond.getMaturityDayType().ordinal()) {
+				return lot;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return sum of face values of all booked bonds
+	 */
+	public double getFaceValueSum() {
+		double faceValueSum = 0.0;
+
+		for (int lot = 0; lot < numberOfLots; lot++) {
+			faceValueSum += faceValueSums[lot];
+		}
+
+		return faceValueSum;
+	}
+
+	public int getNumberOfBonds() {
+		int numberOfBonds = 0;
+
+		for (int lot = 0; lot < numberOfLots; lot++) {
+			numberOfBonds += bondsOfLots.get(lot).size();
+		}
+
+		return numberOfBonds;
+	}
+
+	public int getNumberOfLots() {
+		return numberOfLots;
+	}
+
+	/**
+	 * transfers the face values of all lots maturing on the given day and
+	 * deconstructs their bonds
+	 */
+	public void redeemMaturedLots(final int year, final MonthType monthType, final DayType dayType) {
+		// descending, as removed lots are replaced by the last lot
+		for (int lot = numberOfLots - 1; lot >= 0; lot--) {
+			if (maturityYears[lot] == year && maturityMonthTypes[lot] == monthType.ordinal()
+					&& maturityDayTypes[lot] == dayType.ordinal()) {
+				final BankAccount faceValueFromBankAccount = faceValueFromBankAccountDelegates[lot].getBankAccount();
+				faceValueFromBankAccount.getManagingBank().transferMoney(faceValueFromBankAccount,
+						faceValueToBankAccountDelegate.getBankAccount(), faceValueSums[lot],
+						TransferReason.BOND_FACE_VALUE);
+
+				// delete bonds from simulation
+				for (final FixedRateBond bond : bondsOfLots.get(lot)) {
+					assert (bond.getOwner() == holder);
+
+					bond.deconstruct();
+				}
+
+				removeLot(lot);
+			}
+		}
+	}
+
+	/**
+	 * removes the bond from its lot, e. g. as it has been transferred to another
+	 * owner; the bond transfers coupons and face value itself again.
+	 */
+	public void remove(final FixedRateBond bond) {
+		if (!bond.isSettledByPortfolioBook()) {
+			return;
+		}
+
+		final int lot = findLot(bond);
+
+		if (lot < 0 || !bondsOfLots.get(lot).remove(bond)) {
+			return;
+		}
+
+		if (bondsOfLots.get(lot).isEmpty()) {
+			removeLot(lot);
+		} else {
+			faceValueSums[lot] -= bond.getFaceValue();
+		}
+
+		bond.setSettledByPortfolioBook(false);
+	}
+
+	/**
+	 * replaces the lot by the last lot
+	 */
+	protected void removeLot(final int lot) {
+		final int lastLot = --numberOfLots;
+
+		couponFromBankAccountDelegates[lot] = couponFromBankAccountDelegates[lastLot];
+		coupons[lot] = coupons[lastLot];
+		faceValueFromBankAccountDelegates[lot] = faceValueFromBankAccountDelegates[lastLot];
+		faceValueSums[lot] = faceValueSums[lastLot];
+		issuers[lot] = issuers[lastLot];
+		maturityDayTypes[lot] = maturityDayTypes[lastLot];
+		maturityMonthTypes[lot] = maturityMonthTypes[lastLot];
+		maturityYears[lot] = maturityYears[lastLot];
+		bondsOfLots.set(lot, bondsOfLots.get(lastLot));
+
+		couponFromBankAccountDelegates[lastLot] = null;
+		faceValueFromBankAccountDelegates[lastLot] = null;
+		issuers[lastLot] = null;
+		bondsOfLots.remove(lastLot);
+	}
+
+	/**
+	 * transfers the daily coupon of each lot in one transfer
+	 */
+	public void transferCoupons() {
+		for (int lot = 0; lot < numberOfLots; lot++) {
+			final double dailyCouponValue = MathUtil.calculateMonthlyNominalInterestRate(coupons[lot]) / 30.0
+					* faceValueSums[lot];
+
+			if (dailyCouponValue > 0) {
+				final BankAccount couponFromBankAccount = couponFromBankAccountDelegates[lot].getBankAccount();
+				couponFromBankAccount.getManagingBank().transferMoney(couponFromBankAccount,
+						couponToBankAccountDelegate.getBankAccount(), dailyCouponValue, TransferReason.BOND_COUPON);
+			}
+		}
+	}
+}
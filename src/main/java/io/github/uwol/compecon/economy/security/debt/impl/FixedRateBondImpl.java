@@ -26,6 +26,7 @@ import javax.persistence.Transient;
 import com.google.common.base.Objects;
 
 import io.github.uwol.compecon.economy.sectors.financial.BankAccountDelegate;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.security.debt.FixedRateBond;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.timesystem.TimeSystemEvent;
@@ -55,7 +56,8 @@ public class FixedRateBondImpl extends BondImpl implements FixedRateBond, Compar
 				if (dailyCouponValue > 0) {
 					couponFromBankAccountDelegate.getBankAccount().getManagingBank().transferMoney(
 							couponFromBankAccountDelegate.getBankAccount(),
-							couponToBankAccountDelegate.getBankAccount(), dailyCouponValue, "bond coupon");
+							couponToBankAccountDelegate.getBankAccount(), dailyCouponValue,
+							TransferReason.BOND_COUPON);
 				}
 			}
 		}
@@ -77,6 +79,18 @@ public class FixedRateBondImpl extends BondImpl implements FixedRateBond, Compar
 	@Transient
 	protected BankAccountDelegate couponToBankAccountDelegate;
 
+	@Override
+	protected void addTimeSystemEvents() {
+		super.addTimeSystemEvents();
+
+		// transfer coupon event; has to be HOUR_00, so that the coupon is
+		// payed before possible deconstruction at HOUR_01
+		final TimeSystemEvent transferCouponEvent = new TransferCouponEvent();
+		timeSystemEvents.add(transferCouponEvent);
+		ApplicationContext.getInstance().getTimeSystem().addEvent(transferCouponEvent, -1, MonthType.EVERY,
+				DayType.EVERY, HourType.HOUR_00);
+	}
+
 	@Override
 	protected void assertValidIssuer() {
 		super.assertValidIssuer();
@@ -130,18 +144,6 @@ public class FixedRateBondImpl extends BondImpl implements FixedRateBond, Compar
 	 * assertions
 	 */
 
-	@Override
-	public void initialize() {
-		super.initialize();
-
-		// transfer coupon event; has to be HOUR_00, so that the coupon is
-		// payed before possible deconstruction at HOUR_01
-		final TimeSystemEvent transferCouponEvent = new TransferCouponEvent();
-		timeSystemEvents.add(transferCouponEvent);
-		ApplicationContext.getInstance().getTimeSystem().addEvent(transferCouponEvent, -1, MonthType.EVERY,
-				DayType.EVERY, HourType.HOUR_00);
-	}
-
 	@Override
 	@Transient
 	public void resetOwner() {
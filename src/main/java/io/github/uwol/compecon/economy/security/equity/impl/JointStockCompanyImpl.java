@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.economy.security.equity.impl;
 
+import java.util.Arrays;
 import java.util.List;
 
 import javax.persistence.Entity;
@@ -37,6 +38,7 @@ import io.github.uwol.compecon.economy.sectors.financial.BankAccount.MoneyType;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount.TermType;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccountDelegate;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.sectors.financial.impl.BankAccountImpl;
 import io.github.uwol.compecon.economy.security.equity.JointStockCompany;
 import io.github.uwol.compecon.economy.security.equity.Share;
@@ -79,7 +81,13 @@ public abstract class JointStockCompanyImpl extends AgentImpl implements JointSt
 					final Currency currency = bankAccountDividends.getCurrency();
 					final double dividendPerShare = totalDividend / propertiesIssued.size();
 
-					// pay dividend for each share
+					final Share[] shares = new Share[propertiesIssued.size()];
+					final BankAccount[] dividendBankAccounts = new BankAccount[propertiesIssued.size()];
+					final double[] dividends = new double[propertiesIssued.size()];
+					int numberOfShares = 0;
+					double dividendSum = 0.0;
+
+					// collect the dividend for each share
 					for (final Property propertyIssued : propertiesIssued) {
 						final Share share = (Share) propertyIssued;
 
@@ -88,15 +96,33 @@ public abstract class JointStockCompanyImpl extends AgentImpl implements JointSt
 
 							if (currency
 									.equals(share.getDividendBankAccountDelegate().getBankAccount().getCurrency())) {
-								final double dividend = Math.min(dividendPerShare, bankAccountDividends.getBalance());
-								bankAccountDividends.getManagingBank().transferMoney(bankAccountDividends,
-										share.getDividendBankAccountDelegate().getBankAccount(), dividend, "dividend");
-								share.getDividendBankAccountDelegate().onTransfer(dividendPerShare);
-								totalDividendPayed += dividendPerShare;
+								// the summed dividends must not exceed the balance due to
+								// rounding, as the bulk transfer debits their sum
+								double dividend = Math.min(dividendPerShare, totalDividend - dividendSum);
+								while (dividend > 0.0 && dividendSum + dividend > totalDividend) {
+									dividend = Math.nextDown(dividend);
+								}
+								dividendSum += dividend;
+
+								shares[numberOfShares] = share;
+								dividendBankAccounts[numberOfShares] = share.getDividendBankAccountDelegate()
+										.getBankAccount();
+								dividends[numberOfShares] = dividend;
+								numberOfShares++;
 							}
 						}
 					}
 
+					// pay the dividends in one bulk transfer
+					bankAccountDividends.getManagingBank().transferMoneyToMany(bankAccountDividends,
+							Arrays.copyOf(dividendBankAccounts, numberOfShares),
+							Arrays.copyOf(dividends, numberOfShares), TransferReason.DIVIDEND);
+
+					for (int i = 0; i < numberOfShares; i++) {
+						shares[i].getDividendBankAccountDelegate().onTransfer(dividends[i]);
+						totalDividendPayed += dividends[i];
+					}
+
 					if (getLog().isAgentSelectedByClient(JointStockCompanyImpl.this)) {
 						getLog().log(JointStockCompanyImpl.this, PayDividendEvent.class, "payed dividend of %s %s",
 								Currency.formatMoneySum(totalDividendPayed),
@@ -227,7 +253,7 @@ public abstract class JointStockCompanyImpl extends AgentImpl implements JointSt
 
 		if (MathUtil.greater(bankAccount.getBalance(), 0.0)) {
 			bankAccount.getManagingBank().transferMoney(bankAccount, JointStockCompanyImpl.this.bankAccountDividends,
-					bankAccount.getBalance(), "converting profit to dividend");
+					bankAccount.getBalance(), TransferReason.CONVERTING_PROFIT_TO_DIVIDEND);
 		}
 	}
 }
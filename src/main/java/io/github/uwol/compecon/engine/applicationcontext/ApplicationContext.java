@@ -293,6 +293,14 @@ public class ApplicationContext {
 	}
 
 	public void reset() {
+		if (log != null) {
+			log.shutdown();
+		}
+
+		if (modelRegistry != null) {
+			modelRegistry.shutdown();
+		}
+
 		instance = null;
 
 		System.gc();
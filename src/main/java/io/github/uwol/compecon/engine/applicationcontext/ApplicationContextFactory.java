@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.applicationcontext;
 
+import java.io.File;
 import java.io.IOException;
 
 import io.github.uwol.compecon.economy.materia.InputOutputModel;
@@ -42,6 +43,7 @@ import io.github.uwol.compecon.engine.factory.impl.ShareImplFactoryImpl;
 import io.github.uwol.compecon.engine.factory.impl.StateImplFactoryImpl;
 import io.github.uwol.compecon.engine.factory.impl.TraderImplFactoryImpl;
 import io.github.uwol.compecon.engine.log.impl.LogImpl;
+import io.github.uwol.compecon.engine.log.impl.TransactionJournal;
 import io.github.uwol.compecon.engine.random.impl.DeterministicNumberGeneratorImpl;
 import io.github.uwol.compecon.engine.runner.impl.SimulationRunnerImpl;
 import io.github.uwol.compecon.engine.service.impl.AgentServiceImpl;
@@ -187,7 +189,17 @@ public class ApplicationContextFactory {
 		 * model registry
 		 */
 		ApplicationContext.getInstance().setModelRegistry(new ModelRegistry(inputOutputModel));
-		ApplicationContext.getInstance().setLog(new LogImpl());
+
+		final TransactionJournal transactionJournal;
+		if (configuration.statisticsConfig.isTransactionJournal()) {
+			transactionJournal = new TransactionJournal(
+					new File(configuration.statisticsConfig.getTransactionJournalFile()),
+					ApplicationContext.getInstance().getTimeSystem().getCurrentDate().getTime());
+		} else {
+			transactionJournal = null;
+		}
+
+		ApplicationContext.getInstance().setLog(new LogImpl(transactionJournal));
 
 		/*
 		 * simulation runner
@@ -160,12 +160,69 @@ public class Configuration {
 
 	}
 
+	public class ConvergenceConfig {
+
+		public Boolean active;
+
+		public Double driftTolerance;
+
+		public Integer stableDays;
+
+		public Double varianceTolerance;
+
+		public Integer windowInDays;
+
+		public double getDriftTolerance() {
+			if (driftTolerance == null) {
+				driftTolerance = Double.parseDouble(configFile.getProperty("convergence.driftTolerance"));
+			}
+			return driftTolerance;
+		}
+
+		public int getStableDays() {
+			if (stableDays == null) {
+				stableDays = Integer.parseInt(configFile.getProperty("convergence.stableDays"));
+			}
+			return stableDays;
+		}
+
+		public double getVarianceTolerance() {
+			if (varianceTolerance == null) {
+				varianceTolerance = Double.parseDouble(configFile.getProperty("convergence.varianceTolerance"));
+			}
+			return varianceTolerance;
+		}
+
+		public int getWindowInDays() {
+			if (windowInDays == null) {
+				windowInDays = Integer.parseInt(configFile.getProperty("convergence.windowInDays"));
+			}
+			return windowInDays;
+		}
+
+		/**
+		 * the simulation runner stops, as soon as price indices, industry outputs,
+		 * utility and M1 stay within the tolerances (relative standard deviation and
+		 * relative drift over the window) for stableDays consecutive days
+		 */
+		public boolean isActive() {
+			if (active == null) {
+				active = Boolean.parseBoolean(configFile.getProperty("convergence.active"));
+			}
+			return active;
+		}
+	}
+
 	public class CreditBankConfig {
 
 		public Double maxCreditForCurrencyTrading;
 
 		public Double minArbitrageMargin;
 
+		public Double moneyReservesLowerThreshold;
+
+		public Double moneyReservesTarget;
+
 		public Map<Currency, Integer> number = new HashMap<Currency, Integer>();
 
 		public Double priceChangeIncrement;
@@ -185,6 +242,29 @@ public class Configuration {
 			return minArbitrageMargin;
 		}
 
+		/**
+		 * money reserves at the central bank are rebalanced, when they fall below
+		 * this fraction of the required money reserves
+		 */
+		public double getMoneyReservesLowerThreshold() {
+			if (moneyReservesLowerThreshold == null) {
+				moneyReservesLowerThreshold = Double
+						.parseDouble(configFile.getProperty("creditBank.moneyReserves.lowerThreshold"));
+			}
+			return moneyReservesLowerThreshold;
+		}
+
+		/**
+		 * fraction of the required money reserves, to which money reserves are
+		 * rebalanced
+		 */
+		public double getMoneyReservesTarget() {
+			if (moneyReservesTarget == null) {
+				moneyReservesTarget = Double.parseDouble(configFile.getProperty("creditBank.moneyReserves.target"));
+			}
+			return moneyReservesTarget;
+		}
+
 		public int getNumber(final Currency currency) {
 			if (!number.containsKey(currency)) {
 				number.put(currency,
@@ -477,6 +557,45 @@ public class Configuration {
 		}
 	}
 
+	public class StatisticsConfig {
+
+		public Boolean backgroundThread;
+
+		public Boolean transactionJournal;
+
+		public String transactionJournalFile;
+
+		/**
+		 * statistics of completed periods are published on a background thread;
+		 * requires listeners, which do not read the live simulation state. The CSV
+		 * writers of the evaluation simulation require false.
+		 */
+		public boolean isBackgroundThread() {
+			if (backgroundThread == null) {
+				backgroundThread = Boolean.parseBoolean(configFile.getProperty("statistics.backgroundThread"));
+			}
+			return backgroundThread;
+		}
+
+		public String getTransactionJournalFile() {
+			if (transactionJournalFile == null) {
+				transactionJournalFile = configFile.getProperty("statistics.transactionJournal.file");
+			}
+			return transactionJournalFile;
+		}
+
+		/**
+		 * all money transfers are written to a binary journal file, which can be read
+		 * by TransactionJournalReader
+		 */
+		public boolean isTransactionJournal() {
+			if (transactionJournal == null) {
+				transactionJournal = Boolean.parseBoolean(configFile.getProperty("statistics.transactionJournal"));
+			}
+			return transactionJournal;
+		}
+	}
+
 	public class TimeSystemConfig {
 
 		public Integer initializationPhaseInDays;
@@ -528,6 +647,8 @@ public class Configuration {
 
 	protected final Properties configFile = new Properties();
 
+	public final ConvergenceConfig convergenceConfig = new ConvergenceConfig();
+
 	public final CreditBankConfig creditBankConfig = new CreditBankConfig();
 
 	public final DashboardConfig dashboardConfig = new DashboardConfig();
@@ -546,6 +667,8 @@ public class Configuration {
 
 	public final StateConfig stateConfig = new StateConfig();
 
+	public final StatisticsConfig statisticsConfig = new StatisticsConfig();
+
 	public final TimeSystemConfig timeSystemConfig = new TimeSystemConfig();
 
 	public final TraderConfig traderConfig = new TraderConfig();
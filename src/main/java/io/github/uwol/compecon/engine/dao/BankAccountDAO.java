@@ -19,7 +19,9 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import io.github.uwol.compecon.economy.sectors.financial.Bank;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
@@ -50,5 +52,21 @@ public interface BankAccountDAO extends GenericDAO<BankAccount> {
 
 	public List<BankAccount> findAllBankAccountsManagedByBank(final Bank managingBank);
 
+	/**
+	 * @return read-only live view of the bank accounts managed by the bank
+	 */
+	public Collection<BankAccount> findAllBankAccountsManagedByBankView(final Bank managingBank);
+
 	public List<BankAccount> findAllBankAccountsOfAgent(final BankCustomer owner);
+
+	/**
+	 * passes the bank accounts managed by the bank to the visitor without copying
+	 * them; bank accounts must not be opened or closed by the visitor
+	 */
+	public void forEachBankAccountManagedByBank(final Bank managingBank, final Consumer<? super BankAccount> visitor);
+
+	/**
+	 * @return true, if the owner has at least one bank account at the bank
+	 */
+	public boolean hasAccount(final Bank managingBank, final BankCustomer owner);
 }
@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import io.github.uwol.compecon.economy.sectors.financial.CreditBank;
@@ -28,5 +29,10 @@ public interface CreditBankDAO extends GenericDAO<CreditBank> {
 
 	public List<CreditBank> findAllByCurrency(final Currency currency);
 
+	/**
+	 * @return read-only live view of the credit banks of the currency
+	 */
+	public Collection<CreditBank> findAllByCurrencyView(final Currency currency);
+
 	public CreditBank findRandom(final Currency currency);
 }
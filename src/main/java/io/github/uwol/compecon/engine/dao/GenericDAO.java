@@ -21,6 +21,13 @@ package io.github.uwol.compecon.engine.dao;
 
 import java.util.List;
 
+/**
+ * Live views and iterators handed out by DAOs are neither copied nor guarded by
+ * a lock. They may only be used by the simulation thread, which created the
+ * DAO. Iterating a live view fails with an IllegalStateException, if the DAO is
+ * modified meanwhile; entities to be saved or deleted while iterating have to
+ * be copied first.
+ */
 public interface GenericDAO<T> {
 
 	/**
@@ -31,6 +38,10 @@ public interface GenericDAO<T> {
 
 	public T find(final int id);
 
+	/**
+	 * @return all entities; might be a read-only view, which has to be copied
+	 *         before entities are deleted while iterating
+	 */
 	public List<T> findAll();
 
 	public T findRandom();
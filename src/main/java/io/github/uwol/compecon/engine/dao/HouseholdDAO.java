@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
@@ -27,4 +28,9 @@ import io.github.uwol.compecon.economy.sectors.household.Household;
 public interface HouseholdDAO extends GenericDAO<Household> {
 
 	public List<Household> findAllByCurrency(final Currency currency);
+
+	/**
+	 * @return read-only live view of the households of the currency
+	 */
+	public Collection<Household> findAllByCurrencyView(final Currency currency);
 }
@@ -80,7 +80,13 @@ public interface MarketOrderDAO extends GenericDAO<MarketOrder> {
 
 	public Iterator<MarketOrder> getIterator(final Currency currency, final GoodType goodType);
 
+	/**
+	 * @return iterator over a copy of the market orders
+	 */
 	public Iterator<MarketOrder> getIteratorThreadsafe(final Currency currency, final Currency commodityCurrency);
 
+	/**
+	 * @return iterator over a copy of the market orders
+	 */
 	public Iterator<MarketOrder> getIteratorThreadsafe(final Currency currency, final GoodType goodType);
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import io.github.uwol.compecon.economy.agent.Agent;
@@ -38,6 +39,15 @@ public interface PropertyDAO extends GenericDAO<Property> {
 	public List<Property> findAllPropertiesOfPropertyOwner(final PropertyOwner propertyOwner,
 			final Class<? extends Property> propertyClass);
 
+	/**
+	 * WARNING: Should only be called from the property service, which ensures a
+	 * subsequent Hibernate flush.
+	 *
+	 * @see io.github.uwol.compecon.engine.service.PropertyService
+	 */
+	public void transferProperties(final PropertyOwner oldOwner, final PropertyOwner newOwner,
+			final Collection<? extends Property> properties);
+
 	/**
 	 * WARNING: Should only be called from the property service, which ensures a
 	 * subsequent Hibernate flush.
@@ -19,7 +19,10 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.hibernate.impl;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import io.github.uwol.compecon.economy.sectors.financial.Bank;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
@@ -49,7 +52,8 @@ public class BankAccountDAOImpl extends HibernateDAOImpl<BankAccount> implements
 	@Override
 	public List<BankAccount> findAll(final Bank managingBank, final BankCustomer owner) {
 		final String hql = "FROM BankAccountImpl ba WHERE ba.managingBank = :managingBank AND ba.owner = :owner";
-		return getSession().createQuery(hql).setEntity("managingBank", managingBank).setEntity("owner", owner).list();
+		return getSession().createQuery(hql).setEntity("managingBank", managingBank).setEntity("owner", owner)
+				.setCacheable(true).list();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -57,7 +61,7 @@ public class BankAccountDAOImpl extends HibernateDAOImpl<BankAccount> implements
 	public List<BankAccount> findAll(final Bank managingBank, final BankCustomer owner, final Currency currency) {
 		final String hql = "FROM BankAccountImpl ba WHERE ba.managingBank = :managingBank AND ba.owner = :owner AND ba.currency = :currency";
 		return getSession().createQuery(hql).setEntity("managingBank", managingBank).setEntity("owner", owner)
-				.setParameter("currency", currency).list();
+				.setParameter("currency", currency).setCacheable(true).list();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -67,10 +71,30 @@ public class BankAccountDAOImpl extends HibernateDAOImpl<BankAccount> implements
 		return getSession().createQuery(hql).setEntity("managingBank", managingBank).list();
 	}
 
+	@Override
+	public Collection<BankAccount> findAllBankAccountsManagedByBankView(final Bank managingBank) {
+		return Collections.unmodifiableList(findAllBankAccountsManagedByBank(managingBank));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public List<BankAccount> findAllBankAccountsOfAgent(final BankCustomer owner) {
 		final String hql = "FROM BankAccountImpl ba WHERE ba.owner = :owner";
 		return getSession().createQuery(hql).setEntity("owner", owner).list();
 	}
+
+	@Override
+	public void forEachBankAccountManagedByBank(final Bank managingBank, final Consumer<? super BankAccount> visitor) {
+		for (final BankAccount bankAccount : findAllBankAccountsManagedByBank(managingBank)) {
+			visitor.accept(bankAccount);
+		}
+	}
+
+	@Override
+	public boolean hasAccount(final Bank managingBank, final BankCustomer owner) {
+		final String hql = "SELECT COUNT(ba) FROM BankAccountImpl ba WHERE ba.managingBank = :managingBank AND ba.owner = :owner";
+		final Object count = getSession().createQuery(hql).setEntity("managingBank", managingBank)
+				.setEntity("owner", owner).setCacheable(true).uniqueResult();
+		return ((Number) count).longValue() > 0;
+	}
 }
@@ -31,7 +31,7 @@ public class CentralBankDAOImpl extends HibernateDAOImpl<CentralBank> implements
 	@Override
 	public CentralBank findByCurrency(final Currency currency) {
 		final Object object = getSession().createCriteria(CentralBankImpl.class)
-				.add(Restrictions.eq("primaryCurrency", currency)).uniqueResult();
+				.add(Restrictions.eq("primaryCurrency", currency)).setCacheable(true).uniqueResult();
 
 		if (object == null) {
 			return null;
@@ -19,6 +19,8 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.hibernate.impl;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.Criteria;
@@ -37,7 +39,7 @@ public class CreditBankDAOImpl extends HibernateDAOImpl<CreditBank> implements C
 	@Override
 	public List<CreditBank> findAllByCurrency(final Currency currency) {
 		return getSession().createCriteria(CreditBankImpl.class).add(Restrictions.eq("primaryCurrency", currency))
-				.list();
+				.setCacheable(true).list();
 	}
 
 	@Override
@@ -57,4 +59,9 @@ public class CreditBankDAOImpl extends HibernateDAOImpl<CreditBank> implements C
 
 		return null;
 	}
+
+	@Override
+	public Collection<CreditBank> findAllByCurrencyView(final Currency currency) {
+		return Collections.unmodifiableList(findAllByCurrency(currency));
+	}
 }
@@ -34,7 +34,8 @@ public class FactoryDAOImpl extends HibernateDAOImpl<Factory> implements Factory
 	@SuppressWarnings("unchecked")
 	@Override
 	public List<Factory> findAllByCurrency(final Currency currency) {
-		return getSession().createCriteria(FactoryImpl.class).add(Restrictions.eq("primaryCurrency", currency)).list();
+		return getSession().createCriteria(FactoryImpl.class).add(Restrictions.eq("primaryCurrency", currency))
+				.setCacheable(true).list();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -42,6 +43,6 @@ public class FactoryDAOImpl extends HibernateDAOImpl<Factory> implements Factory
 	public List<Factory> findAllByCurrencyAndProducedGoodType(final Currency currency,
 			final GoodType producedGoodType) {
 		return getSession().createCriteria(FactoryImpl.class).add(Restrictions.eq("primaryCurrency", currency))
-				.add(Restrictions.eq("producedGoodType", producedGoodType)).list();
+				.add(Restrictions.eq("producedGoodType", producedGoodType)).setCacheable(true).list();
 	}
 }
@@ -42,7 +42,7 @@ public class HibernateDAOImpl<T> implements GenericDAO<T> {
 
 	@Override
 	public void delete(final T entity) {
-		getSession().delete(entity);
+		HibernateUtil.getSession().delete(entity);
 		// getSession().evict(entity);
 	}
 
@@ -80,17 +80,21 @@ public class HibernateDAOImpl<T> implements GenericDAO<T> {
 		return persistentClass;
 	}
 
+	/**
+	 * @return session for queries; modifications use the session directly, so
+	 *         that they do not trigger pending flushes
+	 */
 	protected Session getSession() {
-		return HibernateUtil.getSession();
+		return HibernateUtil.getFlushedSession();
 	}
 
 	@Override
 	public void merge(final T entity) {
-		getSession().merge(entity);
+		HibernateUtil.getSession().merge(entity);
 	}
 
 	@Override
 	public void save(final T entity) {
-		getSession().saveOrUpdate(entity);
+		HibernateUtil.getSession().saveOrUpdate(entity);
 	}
 }
@@ -19,6 +19,8 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.hibernate.impl;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.criterion.Restrictions;
@@ -34,6 +36,11 @@ public class HouseholdDAOImpl extends HibernateDAOImpl<Household> implements Hou
 	@Override
 	public List<Household> findAllByCurrency(final Currency currency) {
 		return getSession().createCriteria(HouseholdImpl.class).add(Restrictions.eq("primaryCurrency", currency))
-				.list();
+				.setCacheable(true).list();
+	}
+
+	@Override
+	public Collection<Household> findAllByCurrencyView(final Currency currency) {
+		return Collections.unmodifiableList(findAllByCurrency(currency));
 	}
 }
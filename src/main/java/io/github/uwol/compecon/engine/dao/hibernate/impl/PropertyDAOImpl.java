@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.hibernate.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.hibernate.criterion.Restrictions;
@@ -59,6 +60,14 @@ public class PropertyDAOImpl extends HibernateDAOImpl<Property> implements Prope
 		return getSession().createCriteria(propertyClass).add(Restrictions.eq("owner", propertyOwner)).list();
 	}
 
+	@Override
+	public void transferProperties(final PropertyOwner oldOwner, final PropertyOwner newOwner,
+			final Collection<? extends Property> properties) {
+		for (final Property property : properties) {
+			property.setOwner(newOwner);
+		}
+	}
+
 	@Override
 	public void transferProperty(final PropertyOwner oldOwner, final PropertyOwner newOwner, final Property property) {
 		property.setOwner(newOwner);
@@ -33,6 +33,7 @@ public class TraderDAOImpl extends HibernateDAOImpl<Trader> implements TraderDAO
 	@SuppressWarnings("unchecked")
 	@Override
 	public List<Trader> findAllByCurrency(final Currency currency) {
-		return getSession().createCriteria(TraderImpl.class).add(Restrictions.eq("primaryCurrency", currency)).list();
+		return getSession().createCriteria(TraderImpl.class).add(Restrictions.eq("primaryCurrency", currency))
+				.setCacheable(true).list();
 	}
 }
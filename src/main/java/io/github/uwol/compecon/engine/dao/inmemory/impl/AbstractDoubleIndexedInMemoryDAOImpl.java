@@ -21,14 +21,15 @@ package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
 public abstract class AbstractDoubleIndexedInMemoryDAOImpl<K, V> extends AbstractIndexedInMemoryDAOImpl<K, V> {
 
-	private final Map<K, List<V>> indexedInstances = new HashMap<K, List<V>>();
+	private final Map<K, Set<V>> indexedInstances = new HashMap<K, Set<V>>();
 
-	private final Map<V, List<K>> instanceIndexedKeys = new HashMap<V, List<K>>();
+	private final Map<V, Set<K>> instanceIndexedKeys = new HashMap<V, Set<K>>();
 
 	/*
 	 * get instances for key
@@ -36,10 +37,12 @@ public abstract class AbstractDoubleIndexedInMemoryDAOImpl<K, V> extends Abstrac
 
 	@Override
 	public synchronized void delete(final V instance) {
-		final List<K> secondKeys = getSecondKeysForInstance(instance);
+		assertNotVisiting();
+
+		final Set<K> secondKeys = getSecondKeysForInstance(instance);
 		if (secondKeys != null) {
 			for (final K secondKey : new ArrayList<K>(secondKeys)) {
-				final List<V> indexedInstanceForKey = this.indexedInstances.get(secondKey);
+				final Set<V> indexedInstanceForKey = this.indexedInstances.get(secondKey);
 				if (indexedInstanceForKey != null) {
 					indexedInstanceForKey.remove(instance);
 					if (indexedInstanceForKey.isEmpty()) {
@@ -47,7 +50,7 @@ public abstract class AbstractDoubleIndexedInMemoryDAOImpl<K, V> extends Abstrac
 					}
 				}
 
-				final List<K> instanceIndexedKeysForInstance = this.instanceIndexedKeys.get(instance);
+				final Set<K> instanceIndexedKeysForInstance = this.instanceIndexedKeys.get(instance);
 				if (instanceIndexedKeysForInstance != null) {
 					instanceIndexedKeysForInstance.remove(secondKey);
 					if (instanceIndexedKeysForInstance.isEmpty()) {
@@ -60,15 +63,15 @@ public abstract class AbstractDoubleIndexedInMemoryDAOImpl<K, V> extends Abstrac
 		super.delete(instance);
 	}
 
-	protected synchronized List<K> getFirstKeysForInstance(final V instance) {
+	protected synchronized Set<K> getFirstKeysForInstance(final V instance) {
 		return super.getKeysForInstance(instance);
 	}
 
-	protected synchronized List<V> getInstancesForFirstKey(final K firstKey) {
+	protected synchronized Set<V> getInstancesForFirstKey(final K firstKey) {
 		return super.getInstancesForKey(firstKey);
 	}
 
-	protected synchronized List<V> getInstancesForSecondKey(final K secondKey) {
+	protected synchronized Set<V> getInstancesForSecondKey(final K secondKey) {
 		return this.indexedInstances.get(secondKey);
 	}
 
@@ -76,24 +79,26 @@ public abstract class AbstractDoubleIndexedInMemoryDAOImpl<K, V> extends Abstrac
 	 * actions
 	 */
 
-	protected synchronized List<K> getSecondKeysForInstance(final V instance) {
+	protected synchronized Set<K> getSecondKeysForInstance(final V instance) {
 		return this.instanceIndexedKeys.get(instance);
 	}
 
 	protected synchronized void save(final K firstKey, final K secondKey, final V instance) {
+		assertNotVisiting();
+
 		if (secondKey != null && instance != null) {
 			// store the value
-			List<V> indexedInstancesForKey = this.indexedInstances.get(secondKey);
+			Set<V> indexedInstancesForKey = this.indexedInstances.get(secondKey);
 			if (indexedInstancesForKey == null) {
-				indexedInstancesForKey = new ArrayList<V>();
+				indexedInstancesForKey = new LinkedHashSet<V>();
 				this.indexedInstances.put(secondKey, indexedInstancesForKey);
 			}
 			indexedInstancesForKey.add(instance);
 
 			// store the key
-			List<K> instanceIndexedKeysForInstance = this.instanceIndexedKeys.get(instance);
+			Set<K> instanceIndexedKeysForInstance = this.instanceIndexedKeys.get(instance);
 			if (instanceIndexedKeysForInstance == null) {
-				instanceIndexedKeysForInstance = new ArrayList<K>();
+				instanceIndexedKeysForInstance = new LinkedHashSet<K>();
 				this.instanceIndexedKeys.put(instance, instanceIndexedKeysForInstance);
 			}
 			instanceIndexedKeysForInstance.add(secondKey);
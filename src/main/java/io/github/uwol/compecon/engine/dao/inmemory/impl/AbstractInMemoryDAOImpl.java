@@ -19,24 +19,121 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
-
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.dao.GenericDAO;
 
 public abstract class AbstractInMemoryDAOImpl<T> implements GenericDAO<T> {
 
-	protected BiMap<Integer, T> instancesByIds = HashBiMap.create();
+	/**
+	 * id and slot of an instance
+	 */
+	protected static class Registration {
+
+		protected final int id;
+
+		protected int slot;
+
+		protected Registration(final int id, final int slot) {
+			this.id = id;
+			this.slot = slot;
+		}
+	}
+
+	/**
+	 * dense registry of all instances; deleted instances are replaced by the last
+	 * instance, so that random access and iteration do not have to skip gaps
+	 */
+	protected final List<T> instances = new ArrayList<T>();
+
+	protected final ChunkedIdRegistry<T> instancesByIds = new ChunkedIdRegistry<T>();
+
+	protected final List<T> instancesView = new AbstractList<T>() {
+
+		@Override
+		public T get(final int index) {
+			return instances.get(index);
+		}
+
+		@Override
+		public Iterator<T> iterator() {
+			return iterateView(instances.iterator());
+		}
+
+		@Override
+		public int size() {
+			return instances.size();
+		}
+	};
+
+	/**
+	 * number of saves, deletions and reindexings; iterators of live views fail,
+	 * if it changes while iterating
+	 */
+	protected int modifications = 0;
+
+	/**
+	 * thread, which created the DAO and runs the simulation
+	 */
+	private final Thread owningThread = Thread.currentThread();
+
+	/**
+	 * reverse lookup of ids and slots; entities do not override equals and
+	 * hashCode, so that an open-addressing identity map suffices
+	 */
+	protected final Map<T, Registration> registrations = new IdentityHashMap<T, Registration>();
+
+	/**
+	 * number of visits in progress; instances must not be saved or deleted during
+	 * a visit
+	 */
+	protected int visits = 0;
+
+	protected void assertNotModifiedSince(final int expectedModifications) {
+		if (this.modifications != expectedModifications) {
+			throw new IllegalStateException(
+					getClass().getSimpleName() + " has been modified while iterating a view of its instances");
+		}
+	}
+
+	protected void assertNotVisiting() {
+		if (this.visits > 0) {
+			throw new IllegalStateException(
+					getClass().getSimpleName() + " has been modified while visiting its instances");
+		}
+	}
 
-	protected int lastId = 0;
+	/**
+	 * @see GenericDAO
+	 */
+	protected void assertOwningThread() {
+		if (Thread.currentThread() != this.owningThread) {
+			throw new IllegalStateException(getClass().getSimpleName() + " has been viewed by a foreign thread");
+		}
+	}
 
 	@Override
 	public synchronized void delete(final T entity) {
-		this.instancesByIds.inverse().remove(entity);
+		assertNotVisiting();
+
+		final Registration registration = this.registrations.remove(entity);
+		if (registration != null) {
+			this.modifications++;
+			this.instancesByIds.remove(registration.id);
+
+			final T lastInstance = this.instances.remove(this.instances.size() - 1);
+			if (lastInstance != entity) {
+				this.instances.set(registration.slot, lastInstance);
+				this.registrations.get(lastInstance).slot = registration.slot;
+			}
+		}
 	}
 
 	@Override
@@ -45,16 +142,36 @@ public abstract class AbstractInMemoryDAOImpl<T> implements GenericDAO<T> {
 	}
 
 	@Override
-	public synchronized List<T> findAll() {
-		return new ArrayList<T>(this.instancesByIds.values());
+	public List<T> findAll() {
+		assertOwningThread();
+		return this.instancesView;
 	}
 
 	@Override
 	public synchronized T findRandom() {
-		final List<Integer> keys = new ArrayList<Integer>(this.instancesByIds.keySet());
-		final int index = ApplicationContext.getInstance().getRandomNumberGenerator().nextInt(keys.size());
-		final int id = keys.get(index);
-		return this.instancesByIds.get(id);
+		final int slot = ApplicationContext.getInstance().getRandomNumberGenerator().nextInt(this.instances.size());
+		return this.instances.get(slot);
+	}
+
+	/**
+	 * @return iterator, which fails as soon as the DAO is modified
+	 */
+	protected <E> Iterator<E> iterateView(final Iterator<E> iterator) {
+		final int expectedModifications = this.modifications;
+		return new Iterator<E>() {
+
+			@Override
+			public boolean hasNext() {
+				assertNotModifiedSince(expectedModifications);
+				return iterator.hasNext();
+			}
+
+			@Override
+			public E next() {
+				assertNotModifiedSince(expectedModifications);
+				return iterator.next();
+			}
+		};
 	}
 
 	@Override
@@ -64,7 +181,30 @@ public abstract class AbstractInMemoryDAOImpl<T> implements GenericDAO<T> {
 
 	@Override
 	public synchronized void save(final T entity) {
-		this.instancesByIds.put(this.lastId, entity);
-		this.lastId++;
+		assertNotVisiting();
+
+		if (this.registrations.containsKey(entity)) {
+			throw new IllegalArgumentException("entity already saved: " + entity);
+		}
+
+		this.modifications++;
+
+		final int id = this.instancesByIds.add(entity);
+		this.registrations.put(entity, new Registration(id, this.instances.size()));
+		this.instances.add(entity);
+	}
+
+	/**
+	 * passes the instances to the visitor without copying them
+	 */
+	protected synchronized void visit(final Iterable<T> instances, final Consumer<? super T> visitor) {
+		this.visits++;
+		try {
+			for (final T instance : instances) {
+				visitor.accept(instance);
+			}
+		} finally {
+			this.visits--;
+		}
 	}
 }
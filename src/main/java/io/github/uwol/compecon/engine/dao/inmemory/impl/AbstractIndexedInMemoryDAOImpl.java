@@ -20,15 +20,23 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * In-memory DAO with an index of instances by key. The instances of a key are
+ * kept in insertion-ordered sets, so that instances can be added and removed in
+ * constant time while the iteration order stays deterministic. As entities do
+ * not override equals and hashCode, these sets compare by identity.
+ */
 public abstract class AbstractIndexedInMemoryDAOImpl<K, V> extends AbstractInMemoryDAOImpl<V> {
 
-	private final Map<K, List<V>> indexedInstances = new HashMap<K, List<V>>();
+	private final Map<K, Set<V>> indexedInstances = new HashMap<K, Set<V>>();
 
-	private final Map<V, List<K>> instanceIndexedKeys = new HashMap<V, List<K>>();
+	private final Map<V, Set<K>> instanceIndexedKeys = new HashMap<V, Set<K>>();
 
 	/*
 	 * get instances for key
@@ -36,61 +44,124 @@ public abstract class AbstractIndexedInMemoryDAOImpl<K, V> extends AbstractInMem
 
 	@Override
 	public synchronized void delete(final V instance) {
-		final List<K> keys = getKeysForInstance(instance);
+		assertNotVisiting();
+
+		final Set<K> keys = getKeysForInstance(instance);
 		if (keys != null) {
 			for (final K key : new ArrayList<K>(keys)) {
-				final List<V> indexedInstancesForKey = this.indexedInstances.get(key);
-				if (indexedInstancesForKey != null) {
-					indexedInstancesForKey.remove(instance);
-					if (indexedInstancesForKey.isEmpty()) {
-						this.indexedInstances.remove(key);
-					}
-				}
-
-				final List<K> instanceIndexedKeysForInstance = this.instanceIndexedKeys.get(instance);
-				if (instanceIndexedKeysForInstance != null) {
-					instanceIndexedKeysForInstance.remove(key);
-					if (instanceIndexedKeysForInstance.isEmpty()) {
-						this.instanceIndexedKeys.remove(instance);
-					}
-				}
+				unindex(key, instance);
 			}
 		}
 
 		super.delete(instance);
 	}
 
-	protected synchronized List<V> getInstancesForKey(final K key) {
+	protected synchronized Set<V> getInstancesForKey(final K key) {
 		return this.indexedInstances.get(key);
 	}
 
+	/**
+	 * @return read-only live view of the instances for the key
+	 */
+	protected synchronized Collection<V> getInstancesViewForKey(final K key) {
+		return new InstancesForKeyView<K, V>(this, this.indexedInstances, key);
+	}
+
 	/*
 	 * actions
 	 */
 
-	protected synchronized List<K> getKeysForInstance(final V instance) {
+	protected synchronized Set<K> getKeysForInstance(final V instance) {
 		return this.instanceIndexedKeys.get(instance);
 	}
 
+	private void index(final K key, final V instance) {
+		// store the value
+		Set<V> indexedInstancesForKey = this.indexedInstances.get(key);
+		if (indexedInstancesForKey == null) {
+			indexedInstancesForKey = new LinkedHashSet<V>();
+			this.indexedInstances.put(key, indexedInstancesForKey);
+		}
+		indexedInstancesForKey.add(instance);
+
+		// store the key
+		Set<K> instanceIndexedKeysForInstance = this.instanceIndexedKeys.get(instance);
+		if (instanceIndexedKeysForInstance == null) {
+			instanceIndexedKeysForInstance = new LinkedHashSet<K>();
+			this.instanceIndexedKeys.put(instance, instanceIndexedKeysForInstance);
+		}
+		instanceIndexedKeysForInstance.add(key);
+	}
+
+	/**
+	 * moves a saved instance from the old key to the new key without deleting and
+	 * re-saving it; null keys denote instances not indexed by a key
+	 */
+	protected synchronized void reindex(final K oldKey, final K newKey, final V instance) {
+		assertNotVisiting();
+		this.modifications++;
+
+		if (oldKey != null) {
+			unindex(oldKey, instance);
+		}
+
+		if (newKey != null) {
+			index(newKey, instance);
+		}
+	}
+
+	/**
+	 * moves saved instances from the old key to the new key; if they are all
+	 * instances of the old key and the new key has none, the set of the old key is
+	 * spliced over to the new key as a whole
+	 */
+	protected synchronized void reindex(final K oldKey, final K newKey, final Collection<? extends V> instances) {
+		assertNotVisiting();
+
+		final Set<V> instancesForOldKey = oldKey == null ? null : this.indexedInstances.get(oldKey);
+		if (newKey != null && instancesForOldKey != null && !this.indexedInstances.containsKey(newKey)
+				&& instancesForOldKey.size() == instances.size() && instancesForOldKey.containsAll(instances)) {
+			this.modifications++;
+			this.indexedInstances.remove(oldKey);
+			this.indexedInstances.put(newKey, instancesForOldKey);
+
+			for (final V instance : instancesForOldKey) {
+				final Set<K> instanceIndexedKeysForInstance = this.instanceIndexedKeys.get(instance);
+				instanceIndexedKeysForInstance.remove(oldKey);
+				instanceIndexedKeysForInstance.add(newKey);
+			}
+		} else {
+			for (final V instance : instances) {
+				reindex(oldKey, newKey, instance);
+			}
+		}
+	}
+
 	protected synchronized void save(final K key, final V instance) {
+		assertNotVisiting();
+
 		if (key != null && instance != null) {
-			// store the value
-			List<V> indexedInstancesForKey = this.indexedInstances.get(key);
-			if (indexedInstancesForKey == null) {
-				indexedInstancesForKey = new ArrayList<V>();
-				this.indexedInstances.put(key, indexedInstancesForKey);
-			}
-			indexedInstancesForKey.add(instance);
+			index(key, instance);
+		}
+
+		super.save(instance);
+	}
 
-			// store the key
-			List<K> instanceIndexedKeysForInstance = this.instanceIndexedKeys.get(instance);
-			if (instanceIndexedKeysForInstance == null) {
-				instanceIndexedKeysForInstance = new ArrayList<K>();
-				this.instanceIndexedKeys.put(instance, instanceIndexedKeysForInstance);
+	private void unindex(final K key, final V instance) {
+		final Set<V> indexedInstancesForKey = this.indexedInstances.get(key);
+		if (indexedInstancesForKey != null) {
+			indexedInstancesForKey.remove(instance);
+			if (indexedInstancesForKey.isEmpty()) {
+				this.indexedInstances.remove(key);
 			}
-			instanceIndexedKeysForInstance.add(key);
 		}
 
-		super.save(instance);
+		final Set<K> instanceIndexedKeysForInstance = this.instanceIndexedKeys.get(instance);
+		if (instanceIndexedKeysForInstance != null) {
+			instanceIndexedKeysForInstance.remove(key);
+			if (instanceIndexedKeysForInstance.isEmpty()) {
+				this.instanceIndexedKeys.remove(instance);
+			}
+		}
 	}
 }
@@ -20,10 +20,13 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import io.github.uwol.compecon.economy.sectors.financial.Bank;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
@@ -34,15 +37,83 @@ import io.github.uwol.compecon.engine.dao.BankAccountDAO;
 public class BankAccountDAOImpl extends AbstractIndexedInMemoryDAOImpl<BankCustomer, BankAccount>
 		implements BankAccountDAO {
 
-	protected Map<Bank, List<BankAccount>> bankAccounts = new HashMap<Bank, List<BankAccount>>();
+	/**
+	 * composite key of the bank accounts of an owner at a bank; the currency is
+	 * null for the key over all currencies
+	 */
+	protected static class CustomerKey {
+
+		protected final Currency currency;
+
+		protected final Bank managingBank;
+
+		protected final BankCustomer owner;
+
+		protected CustomerKey(final Bank managingBank, final BankCustomer owner, final Currency currency) {
+			this.managingBank = managingBank;
+			this.owner = owner;
+			this.currency = currency;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (!(obj instanceof CustomerKey)) {
+				return false;
+			}
+			final CustomerKey other = (CustomerKey) obj;
+			return managingBank == other.managingBank && owner == other.owner && currency == other.currency;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(managingBank);
+			result = 31 * result + System.identityHashCode(owner);
+			return 31 * result + (currency == null ? 0 : currency.ordinal() + 1);
+		}
+	}
+
+	protected Map<Bank, Set<BankAccount>> bankAccounts = new HashMap<Bank, Set<BankAccount>>();
+
+	/**
+	 * bank accounts by bank, owner and currency, as well as by bank and owner
+	 */
+	protected Map<CustomerKey, Set<BankAccount>> bankAccountsOfCustomers = new HashMap<CustomerKey, Set<BankAccount>>();
 
 	/*
 	 * helpers
 	 */
 
+	private void addToCustomerIndex(final CustomerKey key, final BankAccount bankAccount) {
+		Set<BankAccount> bankAccountsOfCustomer = bankAccountsOfCustomers.get(key);
+		if (bankAccountsOfCustomer == null) {
+			bankAccountsOfCustomer = new LinkedHashSet<BankAccount>();
+			bankAccountsOfCustomers.put(key, bankAccountsOfCustomer);
+		}
+		bankAccountsOfCustomer.add(bankAccount);
+	}
+
 	private void assureInitializedDataStructure(final Bank bank) {
 		if (!bankAccounts.containsKey(bank)) {
-			bankAccounts.put(bank, new ArrayList<BankAccount>());
+			bankAccounts.put(bank, new LinkedHashSet<BankAccount>());
+		}
+	}
+
+	private List<BankAccount> findAllForCustomerKey(final CustomerKey key) {
+		final Set<BankAccount> bankAccountsOfCustomer = bankAccountsOfCustomers.get(key);
+		if (bankAccountsOfCustomer != null) {
+			return new ArrayList<BankAccount>(bankAccountsOfCustomer);
+		}
+		return new ArrayList<BankAccount>();
+	}
+
+	private void removeFromCustomerIndex(final CustomerKey key, final BankAccount bankAccount) {
+		final Set<BankAccount> bankAccountsOfCustomer = bankAccountsOfCustomers.get(key);
+		if (bankAccountsOfCustomer != null) {
+			bankAccountsOfCustomer.remove(bankAccount);
+			// empty sets are removed, so that hasAccount can check for the key
+			if (bankAccountsOfCustomer.isEmpty()) {
+				bankAccountsOfCustomers.remove(key);
+			}
 		}
 	}
 
@@ -52,19 +123,26 @@ public class BankAccountDAOImpl extends AbstractIndexedInMemoryDAOImpl<BankCusto
 
 	@Override
 	public synchronized void delete(final BankAccount bankAccount) {
-		final List<BankAccount> bankAccountsOfBank = bankAccounts.get(bankAccount.getManagingBank());
+		assertNotVisiting();
+
+		final Set<BankAccount> bankAccountsOfBank = bankAccounts.get(bankAccount.getManagingBank());
 		if (bankAccountsOfBank != null) {
 			bankAccountsOfBank.remove(bankAccount);
 		}
 
+		final Bank managingBank = bankAccount.getManagingBank();
+		final BankCustomer owner = bankAccount.getOwner();
+		removeFromCustomerIndex(new CustomerKey(managingBank, owner, null), bankAccount);
+		removeFromCustomerIndex(new CustomerKey(managingBank, owner, bankAccount.getCurrency()), bankAccount);
+
 		super.delete(bankAccount);
 	}
 
 	@Override
 	public synchronized void deleteAllBankAccounts(final Bank managingBank) {
-		final List<BankAccount> bankAccountsOfBank = bankAccounts.get(managingBank);
+		final Set<BankAccount> bankAccountsOfBank = bankAccounts.get(managingBank);
 		if (bankAccountsOfBank != null) {
-			for (final BankAccount bankAccount : new HashSet<BankAccount>(bankAccountsOfBank)) {
+			for (final BankAccount bankAccount : new ArrayList<BankAccount>(bankAccountsOfBank)) {
 				delete(bankAccount);
 			}
 		}
@@ -73,61 +151,69 @@ public class BankAccountDAOImpl extends AbstractIndexedInMemoryDAOImpl<BankCusto
 
 	@Override
 	public synchronized void deleteAllBankAccounts(final Bank managingBank, final BankCustomer owner) {
-		final List<BankAccount> bankAccountsOfOwner = getInstancesForKey(owner);
-		if (bankAccountsOfOwner != null) {
-			for (final BankAccount bankAccount : new HashSet<BankAccount>(bankAccountsOfOwner)) {
-				if (bankAccount.getManagingBank() == managingBank) {
-					delete(bankAccount);
-				}
-			}
+		for (final BankAccount bankAccount : findAll(managingBank, owner)) {
+			delete(bankAccount);
 		}
 	}
 
 	@Override
 	public synchronized List<BankAccount> findAll(final Bank managingBank, final BankCustomer owner) {
-		final List<BankAccount> bankAccounts = new ArrayList<BankAccount>();
-		for (final BankAccount bankAccount : findAllBankAccountsOfAgent(owner)) {
-			if (bankAccount.getManagingBank() == managingBank) {
-				bankAccounts.add(bankAccount);
-			}
-		}
-		return bankAccounts;
+		return findAllForCustomerKey(new CustomerKey(managingBank, owner, null));
 	}
 
 	@Override
 	public synchronized List<BankAccount> findAll(final Bank managingBank, final BankCustomer owner,
 			final Currency currency) {
-		final List<BankAccount> bankAccounts = new ArrayList<BankAccount>();
-		for (final BankAccount bankAccount : findAllBankAccountsOfAgent(owner)) {
-			if (bankAccount.getManagingBank() == managingBank && currency.equals(bankAccount.getCurrency())) {
-				bankAccounts.add(bankAccount);
-			}
-		}
-		return bankAccounts;
+		return findAllForCustomerKey(new CustomerKey(managingBank, owner, currency));
 	}
 
 	@Override
 	public synchronized List<BankAccount> findAllBankAccountsManagedByBank(final Bank managingBank) {
-		assureInitializedDataStructure(managingBank);
+		final Set<BankAccount> bankAccountManagedByBank = bankAccounts.get(managingBank);
+		if (bankAccountManagedByBank != null) {
+			return new ArrayList<BankAccount>(bankAccountManagedByBank);
+		}
+		return new ArrayList<BankAccount>();
+	}
 
-		final List<BankAccount> bankAccountManagedByBank = bankAccounts.get(managingBank);
-		return new ArrayList<BankAccount>(bankAccountManagedByBank);
+	@Override
+	public Collection<BankAccount> findAllBankAccountsManagedByBankView(final Bank managingBank) {
+		assertOwningThread();
+		return new InstancesForKeyView<Bank, BankAccount>(this, bankAccounts, managingBank);
 	}
 
 	@Override
 	public synchronized List<BankAccount> findAllBankAccountsOfAgent(final BankCustomer owner) {
-		final List<BankAccount> bankAccounts = getInstancesForKey(owner);
+		final Set<BankAccount> bankAccounts = getInstancesForKey(owner);
 		if (bankAccounts != null) {
 			return new ArrayList<BankAccount>(bankAccounts);
 		}
 		return new ArrayList<BankAccount>();
 	}
 
+	@Override
+	public synchronized void forEachBankAccountManagedByBank(final Bank managingBank,
+			final Consumer<? super BankAccount> visitor) {
+		visit(new InstancesForKeyView<Bank, BankAccount>(this, bankAccounts, managingBank), visitor);
+	}
+
+	@Override
+	public synchronized boolean hasAccount(final Bank managingBank, final BankCustomer owner) {
+		return bankAccountsOfCustomers.containsKey(new CustomerKey(managingBank, owner, null));
+	}
+
 	@Override
 	public synchronized void save(final BankAccount bankAccount) {
-		assureInitializedDataStructure(bankAccount.getManagingBank());
+		assertNotVisiting();
+
+		final Bank managingBank = bankAccount.getManagingBank();
+		final BankCustomer owner = bankAccount.getOwner();
+
+		assureInitializedDataStructure(managingBank);
 
-		bankAccounts.get(bankAccount.getManagingBank()).add(bankAccount);
-		super.save(bankAccount.getOwner(), bankAccount);
+		bankAccounts.get(managingBank).add(bankAccount);
+		addToCustomerIndex(new CustomerKey(managingBank, owner, null), bankAccount);
+		addToCustomerIndex(new CustomerKey(managingBank, owner, bankAccount.getCurrency()), bankAccount);
+		super.save(owner, bankAccount);
 	}
 }
@@ -19,7 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
-import java.util.List;
+import java.util.Set;
 
 import io.github.uwol.compecon.economy.sectors.financial.CentralBank;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
@@ -31,14 +31,14 @@ public class CentralBankDAOImpl extends AbstractIndexedInMemoryDAOImpl<Currency,
 	@Override
 	public synchronized CentralBank findByCurrency(final Currency currency) {
 		// should contain only one element
-		final List<CentralBank> centralBanksForCurrency = getInstancesForKey(currency);
+		final Set<CentralBank> centralBanksForCurrency = getInstancesForKey(currency);
 		if (centralBanksForCurrency == null) {
 			return null;
 		}
 
 		assert (centralBanksForCurrency.size() <= 1);
 
-		return centralBanksForCurrency.get(0);
+		return centralBanksForCurrency.iterator().next();
 	}
 
 	@Override
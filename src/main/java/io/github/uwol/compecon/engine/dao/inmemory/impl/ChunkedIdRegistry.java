@@ -0,0 +1,93 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.uwol.compecon.engine.dao.inmemory.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registry of instances by monotonically increasing int ids. The instances are
+ * stored in fixed-size chunks of an array indexed by id, so that lookups
+ * neither hash nor box the id. Chunks, whose instances have all been removed,
+ * are released.
+ */
+class ChunkedIdRegistry<T> {
+
+	protected static final int CHUNK_BITS = 10;
+
+	protected static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+	protected static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	protected final List<Object[]> chunks = new ArrayList<Object[]>();
+
+	/**
+	 * number of registered instances per chunk
+	 */
+	protected int[] chunkSizes = new int[16];
+
+	protected int nextId = 0;
+
+	/**
+	 * @return id of the added instance
+	 */
+	int add(final T instance) {
+		final int id = nextId++;
+		final int chunkIndex = id >>> CHUNK_BITS;
+
+		if (chunkIndex == chunks.size()) {
+			chunks.add(new Object[CHUNK_SIZE]);
+
+			if (chunkIndex == chunkSizes.length) {
+				final int[] newChunkSizes = new int[chunkSizes.length * 2];
+				System.arraycopy(chunkSizes, 0, newChunkSizes, 0, chunkSizes.length);
+				chunkSizes = newChunkSizes;
+			}
+		}
+
+		chunks.get(chunkIndex)[id & CHUNK_MASK] = instance;
+		chunkSizes[chunkIndex]++;
+		return id;
+	}
+
+	@SuppressWarnings("unchecked")
+	T get(final int id) {
+		if (id < 0 || id >= nextId) {
+			return null;
+		}
+
+		final Object[] chunk = chunks.get(id >>> CHUNK_BITS);
+		return chunk == null ? null : (T) chunk[id & CHUNK_MASK];
+	}
+
+	void remove(final int id) {
+		final int chunkIndex = id >>> CHUNK_BITS;
+		final Object[] chunk = chunks.get(chunkIndex);
+
+		if (chunk != null && chunk[id & CHUNK_MASK] != null) {
+			chunk[id & CHUNK_MASK] = null;
+			chunkSizes[chunkIndex]--;
+
+			// release chunks, which cannot be filled again
+			if (chunkSizes[chunkIndex] == 0 && chunkIndex < nextId >>> CHUNK_BITS) {
+				chunks.set(chunkIndex, null);
+			}
+		}
+	}
+}
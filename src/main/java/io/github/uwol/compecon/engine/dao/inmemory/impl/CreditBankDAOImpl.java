@@ -19,7 +19,10 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import io.github.uwol.compecon.economy.sectors.financial.CreditBank;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
@@ -30,7 +33,11 @@ public class CreditBankDAOImpl extends AbstractIndexedInMemoryDAOImpl<Currency,
 
 	@Override
 	public synchronized List<CreditBank> findAllByCurrency(final Currency currency) {
-		return getInstancesForKey(currency);
+		final Set<CreditBank> creditBanks = getInstancesForKey(currency);
+		if (creditBanks != null) {
+			return new ArrayList<CreditBank>(creditBanks);
+		}
+		return new ArrayList<CreditBank>();
 	}
 
 	@Override
@@ -45,6 +52,12 @@ public class CreditBankDAOImpl extends AbstractIndexedInMemoryDAOImpl<Currency,
 		return null;
 	}
 
+	@Override
+	public Collection<CreditBank> findAllByCurrencyView(final Currency currency) {
+		assertOwningThread();
+		return getInstancesViewForKey(currency);
+	}
+
 	@Override
 	public synchronized void save(final CreditBank entity) {
 		super.save(entity.getPrimaryCurrency(), entity);
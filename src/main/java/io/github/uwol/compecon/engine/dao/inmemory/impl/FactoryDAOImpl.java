@@ -21,6 +21,7 @@ package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
@@ -31,14 +32,23 @@ public class FactoryDAOImpl extends AbstractIndexedInMemoryDAOImpl<Currency, Fac
 
 	@Override
 	public synchronized List<Factory> findAllByCurrency(final Currency currency) {
-		return getInstancesForKey(currency);
+		final Set<Factory> factories = getInstancesForKey(currency);
+		if (factories != null) {
+			return new ArrayList<Factory>(factories);
+		}
+		return new ArrayList<Factory>();
 	}
 
 	@Override
 	public synchronized List<Factory> findAllByCurrencyAndProducedGoodType(final Currency currency,
 			final GoodType producedGoodType) {
 		final List<Factory> factoriesProducingGoodType = new ArrayList<Factory>();
-		for (final Factory factory : getInstancesForKey(currency)) {
+		final Set<Factory> factories = getInstancesForKey(currency);
+		if (factories == null) {
+			return factoriesProducingGoodType;
+		}
+
+		for (final Factory factory : factories) {
 			if (producedGoodType.equals(factory.getProducedGoodType())) {
 				factoriesProducingGoodType.add(factory);
 			}
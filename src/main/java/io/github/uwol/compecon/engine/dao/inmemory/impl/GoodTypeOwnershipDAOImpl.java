@@ -21,6 +21,7 @@ package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import io.github.uwol.compecon.economy.property.GoodTypeOwnership;
 import io.github.uwol.compecon.economy.property.PropertyOwner;
@@ -31,7 +32,7 @@ public class GoodTypeOwnershipDAOImpl extends AbstractIndexedInMemoryDAOImpl<Pro
 
 	@Override
 	public synchronized List<GoodTypeOwnership> findAllByPropertyOwner(final PropertyOwner propertyOwner) {
-		final List<GoodTypeOwnership> goodTypeOwnerships = getInstancesForKey(propertyOwner);
+		final Set<GoodTypeOwnership> goodTypeOwnerships = getInstancesForKey(propertyOwner);
 		if (goodTypeOwnerships != null) {
 			return new ArrayList<GoodTypeOwnership>(goodTypeOwnerships);
 		}
@@ -40,9 +41,9 @@ public class GoodTypeOwnershipDAOImpl extends AbstractIndexedInMemoryDAOImpl<Pro
 
 	@Override
 	public synchronized GoodTypeOwnership findFirstByPropertyOwner(final PropertyOwner propertyOwner) {
-		final List<GoodTypeOwnership> goodTypeOwnerships = getInstancesForKey(propertyOwner);
+		final Set<GoodTypeOwnership> goodTypeOwnerships = getInstancesForKey(propertyOwner);
 		if (goodTypeOwnerships != null && !goodTypeOwnerships.isEmpty()) {
-			return goodTypeOwnerships.get(0);
+			return goodTypeOwnerships.iterator().next();
 		}
 		return null;
 	}
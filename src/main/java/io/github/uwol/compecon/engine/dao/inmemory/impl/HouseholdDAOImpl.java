@@ -19,7 +19,10 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
 import io.github.uwol.compecon.economy.sectors.household.Household;
@@ -29,7 +32,17 @@ public class HouseholdDAOImpl extends AbstractIndexedInMemoryDAOImpl<Currency, H
 
 	@Override
 	public synchronized List<Household> findAllByCurrency(final Currency currency) {
-		return getInstancesForKey(currency);
+		final Set<Household> households = getInstancesForKey(currency);
+		if (households != null) {
+			return new ArrayList<Household>(households);
+		}
+		return new ArrayList<Household>();
+	}
+
+	@Override
+	public Collection<Household> findAllByCurrencyView(final Currency currency) {
+		assertOwningThread();
+		return getInstancesViewForKey(currency);
 	}
 
 	@Override
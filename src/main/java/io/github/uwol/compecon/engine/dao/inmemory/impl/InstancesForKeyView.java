@@ -0,0 +1,66 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+package io.github.uwol.compecon.engine.dao.inmemory.impl;
+
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only live view of the instances indexed by a key. The index is looked up
+ * on each access, as the set of a key is dropped from the index when it runs
+ * empty. Iterators fail, if the DAO is modified while iterating.
+ */
+class InstancesForKeyView<K, V> extends AbstractCollection<V> {
+
+	protected final AbstractInMemoryDAOImpl<V> dao;
+
+	protected final Map<K, Set<V>> index;
+
+	protected final K key;
+
+	InstancesForKeyView(final AbstractInMemoryDAOImpl<V> dao, final Map<K, Set<V>> index, final K key) {
+		this.dao = dao;
+		this.index = index;
+		this.key = key;
+	}
+
+	@Override
+	public boolean contains(final Object o) {
+		final Set<V> instances = index.get(key);
+		return instances != null && instances.contains(o);
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		final Set<V> instances = index.get(key);
+		if (instances == null) {
+			return dao.iterateView(Collections.<V>emptyIterator());
+		}
+		return dao.iterateView(instances.iterator());
+	}
+
+	@Override
+	public int size() {
+		final Set<V> instances = index.get(key);
+		return instances == null ? 0 : instances.size();
+	}
+}
@@ -19,11 +19,12 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
@@ -124,7 +125,7 @@ public class MarketOrderDAOImpl extends AbstractIndexedInMemoryDAOImpl<MarketPar
 	@Override
 	public synchronized void deleteAllSellingOrders(final MarketParticipant offeror) {
 		if (getInstancesForKey(offeror) != null) {
-			for (final MarketOrder marketOrder : new HashSet<MarketOrder>(getInstancesForKey(offeror))) {
+			for (final MarketOrder marketOrder : new ArrayList<MarketOrder>(getInstancesForKey(offeror))) {
 				delete(marketOrder);
 			}
 		}
@@ -158,10 +159,7 @@ public class MarketOrderDAOImpl extends AbstractIndexedInMemoryDAOImpl<MarketPar
 	public synchronized double findMarginalPrice(final Currency currency,
 			final Class<? extends Property> propertyClass) {
 		final Class<? extends Property> propertyIndexInterface = getIndexInterface(propertyClass);
-		for (final MarketOrder marketOrder : getMarketOrders(currency, propertyIndexInterface)) {
-			return marketOrder.getPricePerUnit();
-		}
-		return Double.NaN;
+		return getMarginalPrice(findMarketOrders(currency, propertyIndexInterface));
 	}
 
 	/*
@@ -170,24 +168,51 @@ public class MarketOrderDAOImpl extends AbstractIndexedInMemoryDAOImpl<MarketPar
 
 	@Override
 	public synchronized double findMarginalPrice(final Currency currency, final Currency commodityCurrency) {
-		for (final MarketOrder marketOrder : this.getMarketOrders(currency, commodityCurrency)) {
-			return marketOrder.getPricePerUnit();
-		}
-		return Double.NaN;
+		return getMarginalPrice(findMarketOrders(currency, commodityCurrency));
 	}
 
 	@Override
 	public synchronized double findMarginalPrice(final Currency currency, final GoodType goodType) {
-		for (final MarketOrder marketOrder : this.getMarketOrders(currency, goodType)) {
-			return marketOrder.getPricePerUnit();
+		return getMarginalPrice(findMarketOrders(currency, goodType));
+	}
+
+	/**
+	 * @return market orders of the currency and property class; in contrast to
+	 *         getMarketOrders does not initialize missing data structures, so that
+	 *         lookups do not modify the DAO
+	 */
+	private SortedSet<MarketOrder> findMarketOrders(final Currency currency,
+			final Class<? extends Property> propertyIndexInterface) {
+		final Map<Class<? extends Property>, SortedSet<MarketOrder>> marketOrdersForPropertyClass = marketOrdersForPropertyClasses
+				.get(currency);
+		if (marketOrdersForPropertyClass != null && marketOrdersForPropertyClass.containsKey(propertyIndexInterface)) {
+			return marketOrdersForPropertyClass.get(propertyIndexInterface);
 		}
-		return Double.NaN;
+		return Collections.emptySortedSet();
+	}
+
+	private SortedSet<MarketOrder> findMarketOrders(final Currency currency, final Currency commodityCurrency) {
+		final Map<Currency, SortedSet<MarketOrder>> marketOrdersForCurrency = marketOrdersForCurrencies.get(currency);
+		if (marketOrdersForCurrency != null && marketOrdersForCurrency.containsKey(commodityCurrency)) {
+			return marketOrdersForCurrency.get(commodityCurrency);
+		}
+		return Collections.emptySortedSet();
+	}
+
+	private SortedSet<MarketOrder> findMarketOrders(final Currency currency, final GoodType goodType) {
+		final Map<GoodType, SortedSet<MarketOrder>> marketOrdersForGoodTypesAndCurrency = marketOrdersForGoodTypes
+				.get(currency);
+		if (marketOrdersForGoodTypesAndCurrency != null
+				&& marketOrdersForGoodTypesAndCurrency.containsKey(goodType)) {
+			return marketOrdersForGoodTypesAndCurrency.get(goodType);
+		}
+		return Collections.emptySortedSet();
 	}
 
 	private SortedSet<MarketOrder> findMarketOrders(final MarketParticipant offeror, final Currency currency,
 			final Class<? extends Property> propertyClass) {
 		final SortedSet<MarketOrder> marketOrders = new TreeSet<MarketOrder>();
-		final List<MarketOrder> marketOrdersForOfferor = getInstancesForKey(offeror);
+		final Set<MarketOrder> marketOrdersForOfferor = getInstancesForKey(offeror);
 		if (marketOrdersForOfferor != null) {
 			for (final MarketOrder marketOrder : marketOrdersForOfferor) {
 				if (currency.equals(marketOrder.getCurrency()) && marketOrder.getProperty() != null
@@ -202,7 +227,7 @@ public class MarketOrderDAOImpl extends AbstractIndexedInMemoryDAOImpl<MarketPar
 	private SortedSet<MarketOrder> findMarketOrders(final MarketParticipant offeror, final Currency currency,
 			final Currency commodityCurrency) {
 		final SortedSet<MarketOrder> marketOrders = new TreeSet<MarketOrder>();
-		final List<MarketOrder> marketOrdersForOfferor = getInstancesForKey(offeror);
+		final Set<MarketOrder> marketOrdersForOfferor = getInstancesForKey(offeror);
 		if (marketOrdersForOfferor != null) {
 			for (final MarketOrder marketOrder : marketOrdersForOfferor) {
 				if (currency.equals(marketOrder.getCurrency())
@@ -217,7 +242,7 @@ public class MarketOrderDAOImpl extends AbstractIndexedInMemoryDAOImpl<MarketPar
 	private SortedSet<MarketOrder> findMarketOrders(final MarketParticipant offeror, final Currency currency,
 			final GoodType goodType) {
 		final SortedSet<MarketOrder> marketOrders = new TreeSet<MarketOrder>();
-		final List<MarketOrder> marketOrdersForOfferor = getInstancesForKey(offeror);
+		final Set<MarketOrder> marketOrdersForOfferor = getInstancesForKey(offeror);
 		if (marketOrdersForOfferor != null) {
 			for (final MarketOrder marketOrder : marketOrdersForOfferor) {
 				if (currency.equals(marketOrder.getCurrency()) && goodType.equals(marketOrder.getGoodType())) {
@@ -230,20 +255,18 @@ public class MarketOrderDAOImpl extends AbstractIndexedInMemoryDAOImpl<MarketPar
 
 	@Override
 	public synchronized double getAmountSum(final Currency currency, final Currency commodityCurrency) {
-		final Iterator<MarketOrder> iterator = this.getIterator(currency, commodityCurrency);
 		double totalAmountSum = 0.0;
-		while (iterator.hasNext()) {
-			totalAmountSum += iterator.next().getAmount();
+		for (final MarketOrder marketOrder : findMarketOrders(currency, commodityCurrency)) {
+			totalAmountSum += marketOrder.getAmount();
 		}
 		return totalAmountSum;
 	}
 
 	@Override
 	public synchronized double getAmountSum(final Currency currency, final GoodType goodType) {
-		final Iterator<MarketOrder> iterator = this.getIterator(currency, goodType);
 		double totalAmountSum = 0.0;
-		while (iterator.hasNext()) {
-			totalAmountSum += iterator.next().getAmount();
+		for (final MarketOrder marketOrder : findMarketOrders(currency, goodType)) {
+			totalAmountSum += marketOrder.getAmount();
 		}
 		return totalAmountSum;
 	}
@@ -272,31 +295,40 @@ public class MarketOrderDAOImpl extends AbstractIndexedInMemoryDAOImpl<MarketPar
 	}
 
 	@Override
-	public synchronized Iterator<MarketOrder> getIterator(final Currency currency,
+	public Iterator<MarketOrder> getIterator(final Currency currency,
 			final Class<? extends Property> propertyClass) {
-		final Class<? extends Property> propertyIndexInterface = getIndexInterface(propertyClass);
-		return this.getMarketOrders(currency, propertyIndexInterface).iterator();
+		assertOwningThread();
+		return findMarketOrders(currency, getIndexInterface(propertyClass)).iterator();
 	}
 
 	@Override
-	public synchronized Iterator<MarketOrder> getIterator(final Currency currency, final Currency commodityCurrency) {
-		return this.getMarketOrders(currency, commodityCurrency).iterator();
+	public Iterator<MarketOrder> getIterator(final Currency currency, final Currency commodityCurrency) {
+		assertOwningThread();
+		return findMarketOrders(currency, commodityCurrency).iterator();
 	}
 
 	@Override
-	public synchronized Iterator<MarketOrder> getIterator(final Currency currency, final GoodType goodType) {
-		return this.getMarketOrders(currency, goodType).iterator();
+	public Iterator<MarketOrder> getIterator(final Currency currency, final GoodType goodType) {
+		assertOwningThread();
+		return findMarketOrders(currency, goodType).iterator();
 	}
 
 	@Override
 	public synchronized Iterator<MarketOrder> getIteratorThreadsafe(final Currency currency,
 			final Currency commodityCurrency) {
-		return new TreeSet<MarketOrder>(this.getMarketOrders(currency, commodityCurrency)).iterator();
+		return new TreeSet<MarketOrder>(findMarketOrders(currency, commodityCurrency)).iterator();
 	}
 
 	@Override
 	public synchronized Iterator<MarketOrder> getIteratorThreadsafe(final Currency currency, final GoodType goodType) {
-		return new TreeSet<MarketOrder>(this.getMarketOrders(currency, goodType)).iterator();
+		return new TreeSet<MarketOrder>(findMarketOrders(currency, goodType)).iterator();
+	}
+
+	private double getMarginalPrice(final SortedSet<MarketOrder> marketOrders) {
+		if (marketOrders.isEmpty()) {
+			return Double.NaN;
+		}
+		return marketOrders.first().getPricePerUnit();
 	}
 
 	private SortedSet<MarketOrder> getMarketOrders(final Currency currency,
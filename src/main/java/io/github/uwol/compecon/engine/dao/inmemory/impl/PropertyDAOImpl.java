@@ -20,7 +20,14 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import io.github.uwol.compecon.economy.agent.Agent;
 import io.github.uwol.compecon.economy.property.Property;
@@ -31,9 +38,107 @@ import io.github.uwol.compecon.engine.dao.PropertyDAO;
 public class PropertyDAOImpl extends AbstractDoubleIndexedInMemoryDAOImpl<PropertyOwner, Property>
 		implements PropertyDAO {
 
+	/**
+	 * properties by issuer and concrete property class
+	 */
+	protected final Map<PropertyOwner, Map<Class<?>, Set<Property>>> propertiesOfIssuersByClass =
+			new HashMap<PropertyOwner, Map<Class<?>, Set<Property>>>();
+
+	/**
+	 * properties by owner and concrete property class
+	 */
+	protected final Map<PropertyOwner, Map<Class<?>, Set<Property>>> propertiesOfOwnersByClass =
+			new HashMap<PropertyOwner, Map<Class<?>, Set<Property>>>();
+
+	/*
+	 * helpers
+	 */
+
+	private void addToClassIndex(final Map<PropertyOwner, Map<Class<?>, Set<Property>>> index,
+			final PropertyOwner key, final Property property) {
+		if (key == null) {
+			return;
+		}
+
+		Map<Class<?>, Set<Property>> propertiesByClass = index.get(key);
+		if (propertiesByClass == null) {
+			propertiesByClass = new LinkedHashMap<Class<?>, Set<Property>>();
+			index.put(key, propertiesByClass);
+		}
+
+		Set<Property> propertiesOfClass = propertiesByClass.get(property.getClass());
+		if (propertiesOfClass == null) {
+			propertiesOfClass = new LinkedHashSet<Property>();
+			propertiesByClass.put(property.getClass(), propertiesOfClass);
+		}
+		propertiesOfClass.add(property);
+	}
+
+	/**
+	 * @return properties of all concrete classes of the key, which are assignable
+	 *         to the given property class; only the classes are checked, not each
+	 *         property
+	 */
+	private List<Property> findAllInClassIndex(final Map<PropertyOwner, Map<Class<?>, Set<Property>>> index,
+			final PropertyOwner key, final Class<? extends Property> propertyClass) {
+		final List<Property> properties = new ArrayList<Property>();
+		final Map<Class<?>, Set<Property>> propertiesByClass = index.get(key);
+		if (propertiesByClass != null) {
+			for (final Entry<Class<?>, Set<Property>> entry : propertiesByClass.entrySet()) {
+				if (propertyClass.isAssignableFrom(entry.getKey())) {
+					properties.addAll(entry.getValue());
+				}
+			}
+		}
+		return properties;
+	}
+
+	private void removeFromClassIndex(final Map<PropertyOwner, Map<Class<?>, Set<Property>>> index,
+			final PropertyOwner key, final Property property) {
+		if (key == null) {
+			return;
+		}
+
+		final Map<Class<?>, Set<Property>> propertiesByClass = index.get(key);
+		if (propertiesByClass != null) {
+			final Set<Property> propertiesOfClass = propertiesByClass.get(property.getClass());
+			if (propertiesOfClass != null) {
+				propertiesOfClass.remove(property);
+				if (propertiesOfClass.isEmpty()) {
+					propertiesByClass.remove(property.getClass());
+				}
+			}
+			if (propertiesByClass.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+
+	/*
+	 * actions
+	 */
+
 	@Override
-	public List<Property> findAllPropertiesIssuedByAgent(final Agent issuer) {
-		final List<Property> propertiesIssuedByAgent = getInstancesForSecondKey(issuer);
+	public synchronized void delete(final Property property) {
+		assertNotVisiting();
+
+		final Set<PropertyOwner> owners = getFirstKeysForInstance(property);
+		if (owners != null) {
+			for (final PropertyOwner owner : owners) {
+				removeFromClassIndex(propertiesOfOwnersByClass, owner, property);
+			}
+		}
+
+		if (property instanceof PropertyIssued) {
+			removeFromClassIndex(propertiesOfIssuersByClass, ((PropertyIssued) property).getIssuer(), property);
+		}
+
+		super.delete(property);
+	}
+
+	@Override
+	public synchronized List<Property> findAllPropertiesIssuedByAgent(final Agent issuer) {
+		final Set<Property> propertiesIssuedByAgent = getInstancesForSecondKey(issuer);
 		if (propertiesIssuedByAgent != null) {
 			return new ArrayList<Property>(propertiesIssuedByAgent);
 		}
@@ -41,20 +146,14 @@ public class PropertyDAOImpl extends AbstractDoubleIndexedInMemoryDAOImpl<Proper
 	}
 
 	@Override
-	public List<Property> findAllPropertiesIssuedByAgent(final Agent issuer,
+	public synchronized List<Property> findAllPropertiesIssuedByAgent(final Agent issuer,
 			final Class<? extends PropertyIssued> propertyClass) {
-		final List<Property> propertiesIssuedByAgent = new ArrayList<Property>();
-		for (final Property propertyIssued : this.findAllPropertiesIssuedByAgent(issuer)) {
-			if (propertyClass.isAssignableFrom(propertyIssued.getClass())) {
-				propertiesIssuedByAgent.add(propertyIssued);
-			}
-		}
-		return propertiesIssuedByAgent;
+		return findAllInClassIndex(propertiesOfIssuersByClass, issuer, propertyClass);
 	}
 
 	@Override
 	public synchronized List<Property> findAllPropertiesOfPropertyOwner(final PropertyOwner propertyOwner) {
-		final List<Property> propertiesOfPropertyOwner = getInstancesForFirstKey(propertyOwner);
+		final Set<Property> propertiesOfPropertyOwner = getInstancesForFirstKey(propertyOwner);
 		if (propertiesOfPropertyOwner != null) {
 			return new ArrayList<Property>(propertiesOfPropertyOwner);
 		}
@@ -62,33 +161,60 @@ public class PropertyDAOImpl extends AbstractDoubleIndexedInMemoryDAOImpl<Proper
 	}
 
 	@Override
-	public List<Property> findAllPropertiesOfPropertyOwner(final PropertyOwner propertyOwner,
+	public synchronized List<Property> findAllPropertiesOfPropertyOwner(final PropertyOwner propertyOwner,
 			final Class<? extends Property> propertyClass) {
-		final List<Property> propertiesOfClass = new ArrayList<Property>();
-		for (final Property property : this.findAllPropertiesOfPropertyOwner(propertyOwner)) {
-			if (propertyClass.isAssignableFrom(property.getClass())) {
-				propertiesOfClass.add(property);
-			}
-		}
-		return propertiesOfClass;
+		return findAllInClassIndex(propertiesOfOwnersByClass, propertyOwner, propertyClass);
 	}
 
 	@Override
 	public synchronized void save(final Property property) {
 		if (property instanceof PropertyIssued) {
-			super.save(property.getOwner(), ((PropertyIssued) property).getIssuer(), property);
+			final Agent issuer = ((PropertyIssued) property).getIssuer();
+			super.save(property.getOwner(), issuer, property);
+			addToClassIndex(propertiesOfIssuersByClass, issuer, property);
 		} else {
 			super.save(property.getOwner(), property);
 		}
+
+		addToClassIndex(propertiesOfOwnersByClass, property.getOwner(), property);
+	}
+
+	@Override
+	public synchronized void transferProperties(final PropertyOwner oldOwner, final PropertyOwner newOwner,
+			final Collection<? extends Property> properties) {
+		final Map<Class<?>, Set<Property>> propertiesOfOldOwnerByClass = oldOwner == null ? null
+				: propertiesOfOwnersByClass.get(oldOwner);
+		final Set<Property> propertiesOfOldOwner = getInstancesForFirstKey(oldOwner);
+		final boolean isPortfolio = newOwner != null && propertiesOfOldOwnerByClass != null
+				&& !propertiesOfOwnersByClass.containsKey(newOwner)
+				&& propertiesOfOldOwner.size() == properties.size() && propertiesOfOldOwner.containsAll(properties);
+
+		reindex(oldOwner, newOwner, properties);
+
+		if (isPortfolio) {
+			// the class buckets of the whole portfolio are spliced over
+			propertiesOfOwnersByClass.remove(oldOwner);
+			propertiesOfOwnersByClass.put(newOwner, propertiesOfOldOwnerByClass);
+		} else {
+			for (final Property property : properties) {
+				removeFromClassIndex(propertiesOfOwnersByClass, oldOwner, property);
+				addToClassIndex(propertiesOfOwnersByClass, newOwner, property);
+			}
+		}
+
+		for (final Property property : properties) {
+			property.setOwner(newOwner);
+		}
 	}
 
 	@Override
 	public synchronized void transferProperty(final PropertyOwner oldOwner, final PropertyOwner newOwner,
 			final Property property) {
-		// the property is deleted and re-saved, so that the
-		// agent-property-index is updated
-		delete(property);
+		// the property stays registered; only its entries in the owner indexes
+		// are moved
+		reindex(oldOwner, newOwner, property);
+		removeFromClassIndex(propertiesOfOwnersByClass, oldOwner, property);
+		addToClassIndex(propertiesOfOwnersByClass, newOwner, property);
 		property.setOwner(newOwner);
-		this.save(property);
 	}
 }
@@ -19,7 +19,9 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.dao.inmemory.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
 import io.github.uwol.compecon.economy.sectors.trading.Trader;
@@ -29,7 +31,11 @@ public class TraderDAOImpl extends AbstractIndexedInMemoryDAOImpl<Currency, Trad
 
 	@Override
 	public synchronized List<Trader> findAllByCurrency(final Currency currency) {
-		return getInstancesForKey(currency);
+		final Set<Trader> traders = getInstancesForKey(currency);
+		if (traders != null) {
+			return new ArrayList<Trader>(traders);
+		}
+		return new ArrayList<Trader>();
 	}
 
 	@Override
@@ -133,33 +133,33 @@ public class AgentImplFactoryImpl implements AgentFactory {
 
 	@Override
 	public void deconstructAgents() {
-		for (final Household household : ApplicationContext.getInstance()
-				.getHouseholdDAO().findAll()) {
+		for (final Household household : new ArrayList<Household>(ApplicationContext.getInstance()
+				.getHouseholdDAO().findAll())) {
 			household.deconstruct();
 		}
 
-		for (final Trader trader : ApplicationContext.getInstance()
-				.getTraderDAO().findAll()) {
+		for (final Trader trader : new ArrayList<Trader>(ApplicationContext.getInstance()
+				.getTraderDAO().findAll())) {
 			trader.deconstruct();
 		}
 
-		for (final Factory factory : ApplicationContext.getInstance()
-				.getFactoryDAO().findAll()) {
+		for (final Factory factory : new ArrayList<Factory>(ApplicationContext.getInstance()
+				.getFactoryDAO().findAll())) {
 			factory.deconstruct();
 		}
 
-		for (final CreditBank creditBank : ApplicationContext.getInstance()
-				.getCreditBankDAO().findAll()) {
+		for (final CreditBank creditBank : new ArrayList<CreditBank>(ApplicationContext.getInstance()
+				.getCreditBankDAO().findAll())) {
 			creditBank.deconstruct();
 		}
 
-		for (final CentralBank centralBank : ApplicationContext.getInstance()
-				.getCentralBankDAO().findAll()) {
+		for (final CentralBank centralBank : new ArrayList<CentralBank>(ApplicationContext.getInstance()
+				.getCentralBankDAO().findAll())) {
 			centralBank.deconstruct();
 		}
 
-		for (final State state : ApplicationContext.getInstance().getStateDAO()
-				.findAll()) {
+		for (final State state : new ArrayList<State>(ApplicationContext
+				.getInstance().getStateDAO().findAll())) {
 			state.deconstruct();
 		}
 	}
@@ -31,6 +31,7 @@ public class CentralBankImplFactoryImpl implements CentralBankFactory {
 	@Override
 	public void deleteCentralBank(final CentralBank agent) {
 		ApplicationContext.getInstance().getCentralBankDAO().delete(agent);
+		ApplicationContext.getInstance().getAgentService().invalidateCachedAgents(agent.getPrimaryCurrency());
 		HibernateUtil.flushSession();
 	}
 
@@ -46,6 +47,7 @@ public class CentralBankImplFactoryImpl implements CentralBankFactory {
 
 		centralBank.setPrimaryCurrency(currency);
 		ApplicationContext.getInstance().getCentralBankDAO().save(centralBank);
+		ApplicationContext.getInstance().getAgentService().invalidateCachedAgents(currency);
 		centralBank.initialize();
 		HibernateUtil.flushSession();
 		return centralBank;
@@ -31,6 +31,7 @@ public class StateImplFactoryImpl implements StateFactory {
 	@Override
 	public void deleteState(final State agent) {
 		ApplicationContext.getInstance().getStateDAO().delete(agent);
+		ApplicationContext.getInstance().getAgentService().invalidateCachedAgents(agent.getPrimaryCurrency());
 		HibernateUtil.flushSession();
 	}
 
@@ -46,6 +47,7 @@ public class StateImplFactoryImpl implements StateFactory {
 
 		state.setPrimaryCurrency(currency);
 		ApplicationContext.getInstance().getStateDAO().save(state);
+		ApplicationContext.getInstance().getAgentService().invalidateCachedAgents(currency);
 		state.initialize();
 		HibernateUtil.flushSession();
 		return state;
@@ -30,6 +30,7 @@ import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
 import io.github.uwol.compecon.economy.sectors.financial.BankCustomer;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.sectors.household.Household;
 import io.github.uwol.compecon.economy.sectors.industry.Factory;
 import io.github.uwol.compecon.economy.sectors.state.State;
@@ -52,13 +53,23 @@ public interface Log {
 
 	public void agent_onPublishBalanceSheet(final Agent agent, final BalanceSheetDTO balanceSheet);
 
+	/**
+	 * registers a sum of transfers between agent types, which have been booked
+	 * without individual transfers, e. g. interest posted in a batch
+	 */
+	public void bank_onAggregatedTransfer(final Class<? extends BankCustomer> from,
+			final Class<? extends BankCustomer> to, final Currency currency, final double value);
+
 	public void bank_onTransfer(final BankAccount from, final BankAccount to, final Currency currency,
-			final double value, final String subject);
+			final double value, final TransferReason reason, final double quantity, final Object object);
 
 	public void centralBank_KeyInterestRate(final Currency currency, final double keyInterestRate);
 
 	public void centralBank_PriceIndex(final Currency currency, final double priceIndex);
 
+	public void centralBank_StreamingPriceIndices(final Currency currency, final double ewmaPriceIndex,
+			final double chainedLaspeyresPriceIndex, final double chainedPaaschePriceIndex);
+
 	public void factory_AmountSold(final Currency currency, final GoodType outputGoodType, final double amountSold);
 
 	public void factory_onCalculateProfitMaximizingProductionFactorsIterative(final double budget,
@@ -122,6 +133,11 @@ public interface Log {
 
 	public void setAgentSelectedByClient(final Agent agent);
 
+	/**
+	 * closes the transaction journal, if any
+	 */
+	public void shutdown();
+
 	public void state_onUtility(final State state, final Currency currency,
 			final Map<GoodType, Double> bundleOfGoodsToConsume, final double utility);
 }
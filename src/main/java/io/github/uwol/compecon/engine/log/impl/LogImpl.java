@@ -31,12 +31,14 @@ import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
 import io.github.uwol.compecon.economy.sectors.financial.BankCustomer;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.sectors.household.Household;
 import io.github.uwol.compecon.economy.sectors.industry.Factory;
 import io.github.uwol.compecon.economy.sectors.state.State;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.log.Log;
 import io.github.uwol.compecon.engine.statistics.ModelRegistry.IncomeSource;
+import io.github.uwol.compecon.engine.statistics.ModelRegistry.NationalEconomyModel;
 import io.github.uwol.compecon.engine.timesystem.TimeSystemEvent;
 import io.github.uwol.compecon.math.ConvexFunction.ConvexFunctionTerminationCause;
 import io.github.uwol.compecon.math.production.ConvexProductionFunction.ConvexProductionFunctionTerminationCause;
@@ -48,6 +50,15 @@ public class LogImpl implements Log {
 
 	private Agent agentSelectedByClient;
 
+	/**
+	 * null, if transfers are not journaled
+	 */
+	private final TransactionJournal transactionJournal;
+
+	public LogImpl(final TransactionJournal transactionJournal) {
+		this.transactionJournal = transactionJournal;
+	}
+
 	// --------
 
 	@Override
@@ -156,9 +167,22 @@ public class LogImpl implements Log {
 		}
 	}
 
+	@Override
+	public void bank_onAggregatedTransfer(final Class<? extends BankCustomer> from,
+			final Class<? extends BankCustomer> to, final Currency currency, final double value) {
+		ApplicationContext.getInstance().getModelRegistry().getNationalEconomyModel(currency).monetaryTransactionsModel
+				.bank_onTransfer(from, to, currency, value);
+		ApplicationContext.getInstance().getModelRegistry().getNationalEconomyModel(currency).moneyCirculationModel
+				.add(value);
+	}
+
 	@Override
 	public void bank_onTransfer(final BankAccount from, final BankAccount to, final Currency currency,
-			final double value, final String subject) {
+			final double value, final TransferReason reason, final double quantity, final Object object) {
+		if (transactionJournal != null) {
+			transactionJournal.append(from.getId(), to.getId(), value, currency, reason);
+		}
+
 		// only if this is a transfer between agents; alternatively it could be
 		// a transfer between bank accounts of this agent
 		if (from.getOwner() != to.getOwner()) {
@@ -171,13 +195,13 @@ public class LogImpl implements Log {
 
 		if (isAgentSelectedByClient(from.getOwner())) {
 			final String message = " --- " + Currency.formatMoneySum(value) + " " + currency.getIso4217Code() + " ---> "
-					+ to + ": " + subject;
+					+ to + ": " + reason.render(quantity, object);
 			ApplicationContext.getInstance().getModelRegistry().getAgentDetailModel().logBankAccountEvent(
 					ApplicationContext.getInstance().getTimeSystem().getCurrentDate(), from, message);
 		}
 		if (isAgentSelectedByClient(to.getOwner())) {
 			final String message = " <--- " + Currency.formatMoneySum(value) + " " + currency.getIso4217Code() + " --- "
-					+ from + ": " + subject;
+					+ from + ": " + reason.render(quantity, object);
 			ApplicationContext.getInstance().getModelRegistry().getAgentDetailModel().logBankAccountEvent(
 					ApplicationContext.getInstance().getTimeSystem().getCurrentDate(), to, message);
 		}
@@ -197,6 +221,16 @@ public class LogImpl implements Log {
 				.add(priceIndex);
 	}
 
+	@Override
+	public void centralBank_StreamingPriceIndices(final Currency currency, final double ewmaPriceIndex,
+			final double chainedLaspeyresPriceIndex, final double chainedPaaschePriceIndex) {
+		final NationalEconomyModel nationalEconomyModel = ApplicationContext.getInstance().getModelRegistry()
+				.getNationalEconomyModel(currency);
+		nationalEconomyModel.ewmaPriceIndexModel.add(ewmaPriceIndex);
+		nationalEconomyModel.chainedLaspeyresPriceIndexModel.add(chainedLaspeyresPriceIndex);
+		nationalEconomyModel.chainedPaaschePriceIndexModel.add(chainedPaaschePriceIndex);
+	}
+
 	@Override
 	public void factory_AmountSold(final Currency currency, final GoodType outputGoodType, final double amountSold) {
 		ApplicationContext.getInstance().getModelRegistry().getNationalEconomyModel(currency)
@@ -411,6 +445,10 @@ public class LogImpl implements Log {
 
 	@Override
 	public void notifyTimeSystem_nextHour(final Date date) {
+		if (transactionJournal != null) {
+			transactionJournal.setTick(date.getTime());
+		}
+
 		ApplicationContext.getInstance().getModelRegistry().nextHour();
 	}
 
@@ -448,6 +486,13 @@ public class LogImpl implements Log {
 		agentSelectedByClient = agent;
 	}
 
+	@Override
+	public void shutdown() {
+		if (transactionJournal != null) {
+			transactionJournal.close();
+		}
+	}
+
 	// --------
 
 	// currently not used
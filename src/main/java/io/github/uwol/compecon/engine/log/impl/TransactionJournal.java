@@ -0,0 +1,139 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.engine.log.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
+
+/**
+ * Append-only journal of money transfers. Each transfer is written as a
+ * fixed-width binary record into a memory-mapped file; the file is mapped chunk
+ * by chunk, and the operating system writes the mapped pages back in
+ * batches.<br />
+ * <br />
+ * Record layout: tick as simulated time in milliseconds (long), id of the
+ * source bank account (int), id of the target bank account (int), amount
+ * (double), currency ordinal (short), transfer reason ordinal (short).
+ */
+public class TransactionJournal {
+
+	public static final int RECORD_SIZE = 8 + 4 + 4 + 8 + 2 + 2;
+
+	public static final int CHUNK_SIZE = RECORD_SIZE * 32768;
+
+	protected MappedByteBuffer buffer;
+
+	protected final FileChannel channel;
+
+	/**
+	 * position of the currently mapped chunk in the file
+	 */
+	protected long chunkPosition;
+
+	protected final RandomAccessFile file;
+
+	protected long numberOfRecords = 0;
+
+	/**
+	 * simulated time of the transfers, which are appended next; never 0, as a
+	 * zero-filled record marks the end of a journal, which has not been closed
+	 */
+	protected long tick;
+
+	public TransactionJournal(final File journalFile, final long tick) throws IOException {
+		assert (tick != 0);
+
+		this.tick = tick;
+
+		file = new RandomAccessFile(journalFile, "rw");
+		file.setLength(0);
+		channel = file.getChannel();
+
+		mapChunk(0);
+	}
+
+	public void append(final int fromBankAccountId, final int toBankAccountId, final double amount,
+			final Currency currency, final TransferReason reason) {
+		assert (buffer != null);
+
+		if (!buffer.hasRemaining()) {
+			mapChunk(chunkPosition + CHUNK_SIZE);
+		}
+
+		buffer.putLong(tick);
+		buffer.putInt(fromBankAccountId);
+		buffer.putInt(toBankAccountId);
+		buffer.putDouble(amount);
+		buffer.putShort((short) currency.ordinal());
+		buffer.putShort((short) reason.ordinal());
+
+		numberOfRecords++;
+	}
+
+	/**
+	 * writes the mapped pages back and truncates the file to the appended records
+	 */
+	public void close() {
+		if (buffer == null) {
+			return;
+		}
+
+		try {
+			buffer.force();
+			buffer = null;
+
+			channel.truncate(numberOfRecords * RECORD_SIZE);
+			channel.close();
+			file.close();
+		} catch (final IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	public long getNumberOfRecords() {
+		return numberOfRecords;
+	}
+
+	protected void mapChunk(final long position) {
+		try {
+			if (buffer != null) {
+				buffer.force();
+			}
+
+			buffer = channel.map(MapMode.READ_WRITE, position, CHUNK_SIZE);
+			chunkPosition = position;
+		} catch (final IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	public void setTick(final long tick) {
+		assert (tick != 0);
+
+		this.tick = tick;
+	}
+}
@@ -0,0 +1,135 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.engine.log.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Date;
+
+import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
+
+/**
+ * Reads a journal written by {@link TransactionJournal} for replaying or
+ * aggregating the transfers of a simulation run offline.
+ */
+public class TransactionJournalReader {
+
+	public interface TransferVisitor {
+
+		public void visit(final long tick, final int fromBankAccountId, final int toBankAccountId,
+				final double amount, final Currency currency, final TransferReason reason);
+	}
+
+	/**
+	 * prints the number and sum of transfers per currency and transfer reason
+	 */
+	public static void main(final String[] args) throws IOException {
+		if (args.length != 1) {
+			System.out.println("usage: TransactionJournalReader <journal file>");
+			return;
+		}
+
+		final Currency[] currencies = Currency.values();
+		final TransferReason[] reasons = TransferReason.values();
+		final long[][] numberOfTransfers = new long[currencies.length][reasons.length];
+		final double[][] sumOfTransfers = new double[currencies.length][reasons.length];
+		final long[] ticks = { Long.MAX_VALUE, Long.MIN_VALUE };
+
+		final long numberOfRecords = new TransactionJournalReader(new File(args[0])).replay(new TransferVisitor() {
+			@Override
+			public void visit(final long tick, final int fromBankAccountId, final int toBankAccountId,
+					final double amount, final Currency currency, final TransferReason reason) {
+				numberOfTransfers[currency.ordinal()][reason.ordinal()]++;
+				sumOfTransfers[currency.ordinal()][reason.ordinal()] += amount;
+				ticks[0] = Math.min(ticks[0], tick);
+				ticks[1] = Math.max(ticks[1], tick);
+			}
+		});
+
+		System.out.println(numberOfRecords + " transfers");
+
+		if (numberOfRecords > 0) {
+			System.out.println("from " + new Date(ticks[0]) + " to " + new Date(ticks[1]));
+		}
+
+		for (final Currency currency : currencies) {
+			for (final TransferReason reason : reasons) {
+				if (numberOfTransfers[currency.ordinal()][reason.ordinal()] > 0) {
+					System.out.println(currency.getIso4217Code() + " " + reason + ": "
+							+ numberOfTransfers[currency.ordinal()][reason.ordinal()] + " transfers, "
+							+ Currency.formatMoneySum(sumOfTransfers[currency.ordinal()][reason.ordinal()]));
+				}
+			}
+		}
+	}
+
+	protected final File journalFile;
+
+	public TransactionJournalReader(final File journalFile) {
+		this.journalFile = journalFile;
+	}
+
+	/**
+	 * visits the records of the journal in the order of their appending; the
+	 * zero-filled tail of a journal, which has not been closed, is skipped
+	 *
+	 * @return number of visited records
+	 */
+	public long replay(final TransferVisitor visitor) throws IOException {
+		final Currency[] currencies = Currency.values();
+		final TransferReason[] reasons = TransferReason.values();
+
+		long numberOfRecords = 0;
+
+		try (final RandomAccessFile file = new RandomAccessFile(journalFile, "r");
+				final FileChannel channel = file.getChannel()) {
+			final long size = channel.size() - channel.size() % TransactionJournal.RECORD_SIZE;
+
+			for (long position = 0; position < size; position += TransactionJournal.CHUNK_SIZE) {
+				final MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, position,
+						Math.min(TransactionJournal.CHUNK_SIZE, size - position));
+
+				while (buffer.hasRemaining()) {
+					final long tick = buffer.getLong();
+
+					if (tick == 0) {
+						return numberOfRecords;
+					}
+
+					final int fromBankAccountId = buffer.getInt();
+					final int toBankAccountId = buffer.getInt();
+					final double amount = buffer.getDouble();
+					final Currency currency = currencies[buffer.getShort()];
+					final TransferReason reason = reasons[buffer.getShort()];
+
+					visitor.visit(tick, fromBankAccountId, toBankAccountId, amount, currency, reason);
+					numberOfRecords++;
+				}
+			}
+		}
+
+		return numberOfRecords;
+	}
+}
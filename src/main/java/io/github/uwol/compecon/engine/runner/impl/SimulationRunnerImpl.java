@@ -56,6 +56,10 @@ public class SimulationRunnerImpl implements SimulationRunner {
 						&& ApplicationContext.getInstance().getTimeSystem().getCurrentDate().after(endDate)) {
 					break;
 				}
+				// steady state reached
+				else if (ApplicationContext.getInstance().getModelRegistry().getConvergenceModel().isConverged()) {
+					break;
+				}
 				// normal mode
 				else if (!paused) {
 					// step hour-wise; triggers events in time system
@@ -85,6 +89,9 @@ public class SimulationRunnerImpl implements SimulationRunner {
 		} catch (final InterruptedException e) {
 			e.printStackTrace();
 		}
+
+		// statistics of the last day might still be published in the background
+		ApplicationContext.getInstance().getModelRegistry().awaitPeriodPublication();
 	}
 
 	@Override
@@ -49,4 +49,10 @@ public interface AgentService {
 	public State findState(final Currency currency);
 
 	public List<Trader> findTraders(final Currency currency);
+
+	/**
+	 * resets the cached central bank and state of the currency; has to be called,
+	 * when a central bank or state is constructed or deconstructed.
+	 */
+	public void invalidateCachedAgents(final Currency currency);
 }
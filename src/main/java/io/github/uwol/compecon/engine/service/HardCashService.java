@@ -31,4 +31,10 @@ public interface HardCashService {
 	public double getBalance(final HardCashOwner owner, final Currency currency);
 
 	public double increment(final HardCashOwner owner, final Currency currency, final double amount);
+
+	/**
+	 * moves the given amount of hard cash from one owner to another.
+	 */
+	public void transfer(final HardCashOwner from, final HardCashOwner to, final Currency currency,
+			final double amount);
 }
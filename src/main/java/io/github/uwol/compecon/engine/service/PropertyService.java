@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.service;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -81,6 +82,12 @@ public interface PropertyService {
 	 */
 	public Map<GoodType, Double> getGoodTypeBalances(final PropertyOwner propertyOwner);
 
+	/**
+	 * returns a snapshot of the amounts of all good types owned by the given
+	 * property owner, indexed by {@link GoodType#ordinal()}.
+	 */
+	public double[] getGoodTypeBalancesArray(final PropertyOwner propertyOwner);
+
 	/**
 	 * @see #decrementGoodTypeAmount(PropertyOwner, GoodType, double)
 	 */
@@ -94,8 +101,8 @@ public interface PropertyService {
 	public void resetGoodTypeAmount(final PropertyOwner propertyOwner, final GoodType goodType);
 
 	/**
-	 * transfers all properties from the given oldOwner to a random new owner.
-	 * Needed for cases, when property owners are deconstructed.
+	 * transfers all properties and the hard cash from the given oldOwner to a
+	 * random new owner. Needed for cases, when property owners are deconstructed.
 	 */
 	public void transferEverythingToRandomAgent(final PropertyOwner oldOwner);
 
@@ -105,6 +112,14 @@ public interface PropertyService {
 	public void transferGoodTypeAmount(final GoodType goodType, final PropertyOwner oldOwner,
 			final PropertyOwner newOwner, final double amount);
 
+	/**
+	 * Transfers the given properties from the old owner to the new owner in one
+	 * batch. Both owners are informed on each property via their callback methods,
+	 * after all properties have been transferred.
+	 */
+	public void transferProperties(final Collection<? extends Property> properties, final PropertyOwner oldOwner,
+			final PropertyOwner newOwner);
+
 	/**
 	 * Transfers the given property from the old owner to the new owner. Both owners
 	 * are informed on the transaction via their callback methods.
@@ -19,7 +19,9 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.service.impl;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.sectors.financial.CentralBank;
@@ -34,11 +36,25 @@ import io.github.uwol.compecon.engine.service.AgentService;
 
 public class AgentServiceImpl implements AgentService {
 
+	/**
+	 * central banks by currency, so that lookups in hot paths do not hit the DAO
+	 */
+	protected final Map<Currency, CentralBank> centralBanks = new EnumMap<Currency, CentralBank>(Currency.class);
+
+	/**
+	 * states by currency
+	 */
+	protected final Map<Currency, State> states = new EnumMap<Currency, State>(Currency.class);
+
 	@Override
 	public CentralBank findCentralBank(final Currency currency) {
-		final CentralBank centralBank = ApplicationContext.getInstance().getCentralBankDAO().findByCurrency(currency);
+		CentralBank centralBank = centralBanks.get(currency);
 		if (centralBank == null) {
-			return ApplicationContext.getInstance().getCentralBankFactory().newInstanceCentralBank(currency);
+			centralBank = ApplicationContext.getInstance().getCentralBankDAO().findByCurrency(currency);
+			if (centralBank == null) {
+				centralBank = ApplicationContext.getInstance().getCentralBankFactory().newInstanceCentralBank(currency);
+			}
+			centralBanks.put(currency, centralBank);
 		}
 		return centralBank;
 	}
@@ -76,9 +92,13 @@ public class AgentServiceImpl implements AgentService {
 
 	@Override
 	public State findState(final Currency currency) {
-		final State state = ApplicationContext.getInstance().getStateDAO().findByCurrency(currency);
+		State state = states.get(currency);
 		if (state == null) {
-			return ApplicationContext.getInstance().getStateFactory().newInstanceState(currency);
+			state = ApplicationContext.getInstance().getStateDAO().findByCurrency(currency);
+			if (state == null) {
+				state = ApplicationContext.getInstance().getStateFactory().newInstanceState(currency);
+			}
+			states.put(currency, state);
 		}
 		return state;
 	}
@@ -87,4 +107,10 @@ public class AgentServiceImpl implements AgentService {
 	public List<Trader> findTraders(final Currency currency) {
 		return ApplicationContext.getInstance().getTraderDAO().findAllByCurrency(currency);
 	}
+
+	@Override
+	public void invalidateCachedAgents(final Currency currency) {
+		centralBanks.remove(currency);
+		states.remove(currency);
+	}
 }
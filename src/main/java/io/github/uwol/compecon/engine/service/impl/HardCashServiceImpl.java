@@ -19,36 +19,67 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.service.impl;
 
-import java.util.HashMap;
-
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
 import io.github.uwol.compecon.economy.sectors.financial.HardCashOwner;
 import io.github.uwol.compecon.engine.service.HardCashService;
 
+/**
+ * Hard cash is kept in a flat ledger with one row of balances per owner and
+ * one column per currency. Rows are assigned to owners on first use and are
+ * recycled, when owners are deregistered. Each owner keeps its row, so that
+ * balances are accessed without a lookup.
+ */
 public class HardCashServiceImpl implements HardCashService {
 
+	protected static final int NUMBER_OF_CURRENCIES = Currency.values().length;
+
 	// TODO Services have to be stateless, move state into DAO / database
-	private final HashMap<HardCashOwner, HashMap<Currency, Double>> balances = new HashMap<HardCashOwner, HashMap<Currency, Double>>();
+	protected double[] balances = new double[16 * NUMBER_OF_CURRENCIES];
+
+	/**
+	 * rows of deregistered owners, which can be reused
+	 */
+	protected int[] freeSlots = new int[16];
 
-	private void assureAgentHasBalances(final HardCashOwner owner) {
-		if (!balances.containsKey(owner)) {
-			balances.put(owner, new HashMap<Currency, Double>());
+	protected int numberOfFreeSlots = 0;
+
+	protected int numberOfSlots = 0;
+
+	/**
+	 * @return index of the balance of the owner in the given currency
+	 */
+	private int assureBalanceIndex(final HardCashOwner owner, final Currency currency) {
+		int slot = owner.getHardCashSlot();
+
+		if (slot < 0) {
+			if (numberOfFreeSlots > 0) {
+				slot = freeSlots[--numberOfFreeSlots];
+			} else {
+				slot = numberOfSlots++;
+
+				if (numberOfSlots * NUMBER_OF_CURRENCIES > balances.length) {
+					final double[] newBalances = new double[balances.length * 2];
+					System.arraycopy(balances, 0, newBalances, 0, balances.length);
+					balances = newBalances;
+				}
+			}
+
+			owner.setHardCashSlot(slot);
 		}
+
+		return slot * NUMBER_OF_CURRENCIES + currency.ordinal();
 	}
 
 	@Override
 	public double decrement(final HardCashOwner owner, final Currency currency, final double amount) {
-		assureAgentHasBalances(owner);
-
 		assert (amount >= 0.0);
 
-		final double oldBalance = getBalance(owner, currency);
+		final int index = assureBalanceIndex(owner, currency);
 
-		assert (oldBalance >= amount);
+		assert (balances[index] >= amount);
 
-		final double newBalance = oldBalance - amount;
-		balances.get(owner).put(currency, newBalance);
-		return newBalance;
+		balances[index] -= amount;
+		return balances[index];
 	}
 
 	/*
@@ -56,31 +87,56 @@ public class HardCashServiceImpl implements HardCashService {
 	 */
 	@Override
 	public void deregister(final HardCashOwner owner) {
-		balances.remove(owner); // TODO transfer to other agent?
+		final int slot = owner.getHardCashSlot();
+
+		if (slot >= 0) {
+			owner.setHardCashSlot(-1);
+
+			final int offset = slot * NUMBER_OF_CURRENCIES;
+			for (int i = 0; i < NUMBER_OF_CURRENCIES; i++) {
+				balances[offset + i] = 0.0;
+			}
+
+			if (numberOfFreeSlots == freeSlots.length) {
+				final int[] newFreeSlots = new int[freeSlots.length * 2];
+				System.arraycopy(freeSlots, 0, newFreeSlots, 0, freeSlots.length);
+				freeSlots = newFreeSlots;
+			}
+			freeSlots[numberOfFreeSlots++] = slot;
+		}
 	}
 
 	@Override
 	public double getBalance(final HardCashOwner owner, final Currency currency) {
-		assureAgentHasBalances(owner);
+		final int slot = owner.getHardCashSlot();
 
-		final HashMap<Currency, Double> balancesForIAgent = balances.get(owner);
-		double balance = 0;
-		if (balancesForIAgent.containsKey(currency)) {
-			balance = balancesForIAgent.get(currency);
+		if (slot < 0) {
+			return 0.0;
 		}
 
-		return balance;
+		return balances[slot * NUMBER_OF_CURRENCIES + currency.ordinal()];
 	}
 
 	@Override
 	public double increment(final HardCashOwner owner, final Currency currency, final double amount) {
-		assureAgentHasBalances(owner);
-
 		assert (amount > 0.0);
 
-		final double oldBalance = getBalance(owner, currency);
-		final double newBalance = oldBalance + amount;
-		balances.get(owner).put(currency, newBalance);
-		return newBalance;
+		final int index = assureBalanceIndex(owner, currency);
+		balances[index] += amount;
+		return balances[index];
+	}
+
+	@Override
+	public void transfer(final HardCashOwner from, final HardCashOwner to, final Currency currency,
+			final double amount) {
+		assert (amount >= 0.0);
+
+		final int fromIndex = assureBalanceIndex(from, currency);
+		final int toIndex = assureBalanceIndex(to, currency);
+
+		assert (balances[fromIndex] >= amount);
+
+		balances[fromIndex] -= amount;
+		balances[toIndex] += amount;
 	}
 }
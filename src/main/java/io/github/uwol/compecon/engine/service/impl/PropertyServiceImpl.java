@@ -19,10 +19,10 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.service.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import io.github.uwol.compecon.economy.agent.Agent;
 import io.github.uwol.compecon.economy.materia.GoodType;
@@ -30,8 +30,11 @@ import io.github.uwol.compecon.economy.property.GoodTypeOwnership;
 import io.github.uwol.compecon.economy.property.Property;
 import io.github.uwol.compecon.economy.property.PropertyIssued;
 import io.github.uwol.compecon.economy.property.PropertyOwner;
+import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.HardCashOwner;
 import io.github.uwol.compecon.economy.sectors.household.Household;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
+import io.github.uwol.compecon.engine.service.HardCashService;
 import io.github.uwol.compecon.engine.service.PropertyService;
 import io.github.uwol.compecon.engine.util.HibernateUtil;
 import io.github.uwol.compecon.math.util.MathUtil;
@@ -65,13 +68,13 @@ public class PropertyServiceImpl implements PropertyService {
 		assert (amount >= 0.0);
 
 		final GoodTypeOwnership goodTypeOwnership = assureGoodTypeOwnership(propertyOwner);
-		final double oldBalance = goodTypeOwnership.getOwnedGoodTypes().get(goodType);
+		final double oldBalance = goodTypeOwnership.getBalance(goodType);
 
 		assert (MathUtil.lesserEqual(amount, oldBalance)) : "cannot decrement " + amount + " from " + oldBalance + " "
 				+ goodType;
 
 		final double newBalance = Math.max(oldBalance - amount, 0);
-		goodTypeOwnership.getOwnedGoodTypes().put(goodType, newBalance);
+		goodTypeOwnership.setBalance(goodType, newBalance);
 
 		HibernateUtil.flushSession();
 
@@ -109,10 +112,11 @@ public class PropertyServiceImpl implements PropertyService {
 
 	@Override
 	public Map<GoodType, Double> getCapitalBalances(final PropertyOwner propertyOwner) {
+		final double[] balances = getGoodTypeBalancesArray(propertyOwner);
 		final Map<GoodType, Double> capital = new HashMap<GoodType, Double>();
-		for (final Entry<GoodType, Double> entry : getGoodTypeBalances(propertyOwner).entrySet()) {
-			if (entry.getKey().isDurable()) {
-				capital.put(entry.getKey(), entry.getValue());
+		for (final GoodType goodType : GoodType.values()) {
+			if (goodType.isDurable()) {
+				capital.put(goodType, balances[goodType.ordinal()]);
 			}
 		}
 		return capital;
@@ -120,19 +124,22 @@ public class PropertyServiceImpl implements PropertyService {
 
 	@Override
 	public double getGoodTypeBalance(final PropertyOwner propertyOwner, final GoodType goodType) {
-		assureGoodTypeOwnership(propertyOwner);
-
-		final GoodTypeOwnership goodTypeOwnership = ApplicationContext.getInstance().getGoodTypeOwnershipDAO()
-				.findFirstByPropertyOwner(propertyOwner);
-		return goodTypeOwnership.getOwnedGoodTypes().get(goodType);
+		return assureGoodTypeOwnership(propertyOwner).getBalance(goodType);
 	}
 
 	@Override
 	public Map<GoodType, Double> getGoodTypeBalances(final PropertyOwner propertyOwner) {
-		assureGoodTypeOwnership(propertyOwner);
+		final double[] balances = getGoodTypeBalancesArray(propertyOwner);
+		final Map<GoodType, Double> goodTypeBalances = new HashMap<GoodType, Double>();
+		for (final GoodType goodType : GoodType.values()) {
+			goodTypeBalances.put(goodType, balances[goodType.ordinal()]);
+		}
+		return goodTypeBalances;
+	}
 
-		return new HashMap<GoodType, Double>(ApplicationContext.getInstance().getGoodTypeOwnershipDAO()
-				.findFirstByPropertyOwner(propertyOwner).getOwnedGoodTypes());
+	@Override
+	public double[] getGoodTypeBalancesArray(final PropertyOwner propertyOwner) {
+		return assureGoodTypeOwnership(propertyOwner).getBalances();
 	}
 
 	@Override
@@ -141,8 +148,8 @@ public class PropertyServiceImpl implements PropertyService {
 		assert (amount >= 0.0);
 
 		final GoodTypeOwnership goodTypeOwnership = assureGoodTypeOwnership(propertyOwner);
-		final double newBalance = goodTypeOwnership.getOwnedGoodTypes().get(goodType) + amount;
-		goodTypeOwnership.getOwnedGoodTypes().put(goodType, newBalance);
+		final double newBalance = goodTypeOwnership.getBalance(goodType) + amount;
+		goodTypeOwnership.setBalance(goodType, newBalance);
 
 		HibernateUtil.flushSession();
 
@@ -152,7 +159,7 @@ public class PropertyServiceImpl implements PropertyService {
 	@Override
 	public void resetGoodTypeAmount(final PropertyOwner propertyOwner, final GoodType goodType) {
 		final GoodTypeOwnership goodTypeOwnership = assureGoodTypeOwnership(propertyOwner);
-		goodTypeOwnership.getOwnedGoodTypes().put(goodType, 0.0);
+		goodTypeOwnership.setBalance(goodType, 0.0);
 
 		HibernateUtil.flushSession();
 	}
@@ -179,19 +186,29 @@ public class PropertyServiceImpl implements PropertyService {
 
 			for (final GoodTypeOwnership goodTypeOwnership : ApplicationContext.getInstance().getGoodTypeOwnershipDAO()
 					.findAllByPropertyOwner(oldOwner)) {
-				for (final Entry<GoodType, Double> entry : goodTypeOwnership.getOwnedGoodTypes().entrySet()) {
-					if (!entry.getKey().equals(GoodType.LABOURHOUR)) {
-						transferGoodTypeAmount(entry.getKey(), oldOwner, newOwnerHousehold, entry.getValue());
+				final double[] balances = goodTypeOwnership.getBalances();
+				for (final GoodType goodType : GoodType.values()) {
+					if (!goodType.equals(GoodType.LABOURHOUR)) {
+						transferGoodTypeAmount(goodType, oldOwner, newOwnerHousehold, balances[goodType.ordinal()]);
+					}
+				}
+			}
+
+			// transfer hard cash
+			if (oldOwner instanceof HardCashOwner) {
+				final HardCashService hardCashService = ApplicationContext.getInstance().getHardCashService();
+				for (final Currency currency : Currency.values()) {
+					final double hardCash = hardCashService.getBalance((HardCashOwner) oldOwner, currency);
+					if (hardCash > 0.0) {
+						hardCashService.transfer((HardCashOwner) oldOwner, newOwnerHousehold, currency, hardCash);
 					}
 				}
 			}
 		}
 
 		// transfer all properties, eventually to null property owner!
-		for (final Property property : ApplicationContext.getInstance().getPropertyDAO()
-				.findAllPropertiesOfPropertyOwner(oldOwner)) {
-			transferProperty(property, oldOwner, newOwnerHousehold);
-		}
+		transferProperties(ApplicationContext.getInstance().getPropertyDAO().findAllPropertiesOfPropertyOwner(oldOwner),
+				oldOwner, newOwnerHousehold);
 
 		// remove good type ownerships as they should have been zeroed
 		for (final GoodTypeOwnership goodTypeOwnership : ApplicationContext.getInstance().getGoodTypeOwnershipDAO()
@@ -212,6 +229,35 @@ public class PropertyServiceImpl implements PropertyService {
 		HibernateUtil.flushSession();
 	}
 
+	/**
+	 * newOwner with value null is allowed, e. g. for shares
+	 */
+	@Override
+	public void transferProperties(final Collection<? extends Property> properties, final PropertyOwner oldOwner,
+			final PropertyOwner newOwner) {
+		if (properties.isEmpty()) {
+			return;
+		}
+
+		for (final Property property : properties) {
+			// consistency check
+			assert (oldOwner == property.getOwner());
+
+			property.resetOwner();
+		}
+
+		ApplicationContext.getInstance().getPropertyDAO().transferProperties(oldOwner, newOwner, properties);
+
+		for (final Property property : properties) {
+			oldOwner.onPropertyTransferred(property, oldOwner, newOwner);
+			if (newOwner != null) {
+				newOwner.onPropertyTransferred(property, oldOwner, newOwner);
+			}
+		}
+
+		HibernateUtil.flushSession();
+	}
+
 	/**
 	 * newOwner with value null is allowed, e. g. for shares
 	 */
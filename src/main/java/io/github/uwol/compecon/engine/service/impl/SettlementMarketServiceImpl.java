@@ -29,6 +29,7 @@ import io.github.uwol.compecon.economy.property.Property;
 import io.github.uwol.compecon.economy.sectors.financial.Bank;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccountDelegate;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.service.SettlementMarketService;
 import io.github.uwol.compecon.math.util.MathUtil;
@@ -100,9 +101,8 @@ public class SettlementMarketServiceImpl extends MarketServiceImpl implements Se
 
 			// transfer money
 			buyersBank.transferMoney(buyersBankAccountDelegate.getBankAccount(),
-					marketOrder.getOfferorsBankAcountDelegate().getBankAccount(),
-					amount * marketOrder.getPricePerUnit(),
-					"price for " + MathUtil.round(amount) + " units of " + marketOrder.getCommodity());
+					marketOrder.getOfferorsBankAcountDelegate().getBankAccount(), amount * marketOrder.getPricePerUnit(),
+					TransferReason.PRICE_FOR_COMMODITY, amount, marketOrder.getCommodity());
 
 			// transfer ownership
 			switch (marketOrder.getCommodityType()) {
@@ -122,6 +122,9 @@ public class SettlementMarketServiceImpl extends MarketServiceImpl implements Se
 				// register market tick
 				getLog().market_onTick(marketOrder.getPricePerUnit(), marketOrder.getGoodType(),
 						marketOrder.getOfferorsBankAcountDelegate().getBankAccount().getCurrency(), amount);
+				ApplicationContext.getInstance().getAgentService()
+						.findCentralBank(marketOrder.getOfferorsBankAcountDelegate().getBankAccount().getCurrency())
+						.onMarketTick(marketOrder.getGoodType(), marketOrder.getPricePerUnit(), amount);
 
 				// optionally, delete market order
 				if (MathUtil.lesserEqual(marketOrder.getAmount(), 0)) {
@@ -135,8 +138,7 @@ public class SettlementMarketServiceImpl extends MarketServiceImpl implements Se
 				// transfer commodity currency
 				bank.transferMoney(marketOrder.getCommodityCurrencyOfferorsBankAccountDelegate().getBankAccount(),
 						buyersBankAccountForCommodityCurrencyDelegate.getBankAccount(), amount,
-						"transfer of " + Currency.formatMoneySum(amount) + " units of commoditycurrency "
-								+ marketOrder.getCommodity());
+						TransferReason.COMMODITY_CURRENCY, amount, marketOrder.getCommodity());
 
 				// decrement amount in market order
 				marketOrder.decrementAmount(amount);
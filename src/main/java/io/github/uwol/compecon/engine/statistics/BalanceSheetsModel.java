@@ -19,7 +19,9 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.statistics;
 
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -36,23 +38,44 @@ import io.github.uwol.compecon.economy.sectors.trading.Trader;
 
 public class BalanceSheetsModel extends NotificationListenerModel {
 
-	protected BalanceSheetDTO centralBankBalanceSheet;
+	/**
+	 * balance sheets published by agents in one period
+	 */
+	protected class BalanceSheets {
 
-	protected final Map<CreditBank, BalanceSheetDTO> creditBankBalanceSheets = new HashMap<CreditBank, BalanceSheetDTO>();
+		protected BalanceSheetDTO centralBankBalanceSheet;
 
-	protected final Map<GoodType, Map<Factory, BalanceSheetDTO>> factoryBalanceSheets = new HashMap<GoodType, Map<Factory, BalanceSheetDTO>>();
+		protected final Map<CreditBank, BalanceSheetDTO> creditBankBalanceSheets = new HashMap<CreditBank, BalanceSheetDTO>();
 
-	protected final Map<Household, BalanceSheetDTO> householdBalanceSheets = new HashMap<Household, BalanceSheetDTO>();
+		protected final Map<GoodType, Map<Factory, BalanceSheetDTO>> factoryBalanceSheets = new HashMap<GoodType, Map<Factory, BalanceSheetDTO>>();
 
-	protected final Currency referenceCurrency;
+		protected final Map<Household, BalanceSheetDTO> householdBalanceSheets = new HashMap<Household, BalanceSheetDTO>();
+
+		protected BalanceSheetDTO stateBalanceSheet;
+
+		protected final Map<Trader, BalanceSheetDTO> traderBalanceSheets = new HashMap<Trader, BalanceSheetDTO>();
+
+		protected BalanceSheets() {
+			for (final GoodType goodType : GoodType.values()) {
+				factoryBalanceSheets.put(goodType, new HashMap<Factory, BalanceSheetDTO>());
+			}
+		}
+	}
 
-	protected BalanceSheetDTO stateBalanceSheet;
+	/**
+	 * balance sheets of the current period, filled by agents
+	 */
+	protected BalanceSheets balanceSheets = new BalanceSheets();
+
+	/**
+	 * balance sheets of the last completed period, read by listeners
+	 */
+	protected volatile BalanceSheets completedBalanceSheets = new BalanceSheets();
 
-	protected final Map<Trader, BalanceSheetDTO> traderBalanceSheets = new HashMap<Trader, BalanceSheetDTO>();
+	protected final Currency referenceCurrency;
 
 	public BalanceSheetsModel(final Currency referenceCurrency) {
 		this.referenceCurrency = referenceCurrency;
-		resetBalanceSheets();
 	}
 
 	public void agent_onPublishBalanceSheet(final Agent agent, final BalanceSheetDTO balanceSheet) {
@@ -61,24 +84,35 @@ public class BalanceSheetsModel extends NotificationListenerModel {
 				&& referenceCurrency.equals(balanceSheet.referenceCurrency));
 
 		if (agent instanceof Household) {
-			householdBalanceSheets.put((Household) agent, balanceSheet);
+			balanceSheets.householdBalanceSheets.put((Household) agent, balanceSheet);
 		} else if (agent instanceof Factory) {
-			factoryBalanceSheets.get(((Factory) agent).getProducedGoodType()).put((Factory) agent, balanceSheet);
+			balanceSheets.factoryBalanceSheets.get(((Factory) agent).getProducedGoodType()).put((Factory) agent,
+					balanceSheet);
 		} else if (agent instanceof Trader) {
-			traderBalanceSheets.put((Trader) agent, balanceSheet);
+			balanceSheets.traderBalanceSheets.put((Trader) agent, balanceSheet);
 		} else if (agent instanceof CreditBank) {
-			creditBankBalanceSheets.put((CreditBank) agent, balanceSheet);
+			balanceSheets.creditBankBalanceSheets.put((CreditBank) agent, balanceSheet);
 		} else if (agent instanceof CentralBank) {
-			assert (centralBankBalanceSheet == null);
-			centralBankBalanceSheet = balanceSheet;
+			assert (balanceSheets.centralBankBalanceSheet == null);
+			balanceSheets.centralBankBalanceSheet = balanceSheet;
 		} else if (agent instanceof State) {
-			assert (stateBalanceSheet == null);
-			stateBalanceSheet = balanceSheet;
+			assert (balanceSheets.stateBalanceSheet == null);
+			balanceSheets.stateBalanceSheet = balanceSheet;
 		} else {
 			throw new RuntimeException("unexpected agent type");
 		}
 	}
 
+	/**
+	 * swaps the balance sheets of the current period
+	 */
+	public void completePeriod(final Date date, final List<Runnable> publications) {
+		completedBalanceSheets = balanceSheets;
+		balanceSheets = new BalanceSheets();
+
+		publications.add(notifyListenersTask);
+	}
+
 	private void copyBalanceSheetValues(final BalanceSheetDTO from, final BalanceSheetDTO to) {
 		if (from == null) {
 			return;
@@ -121,7 +155,7 @@ public class BalanceSheetsModel extends NotificationListenerModel {
 
 	public BalanceSheetDTO getCentralBankNationalAccountsBalanceSheet() {
 		final BalanceSheetDTO centralBankNationalAccountsBalanceSheet = new BalanceSheetDTO(referenceCurrency);
-		copyBalanceSheetValues(centralBankBalanceSheet, centralBankNationalAccountsBalanceSheet);
+		copyBalanceSheetValues(completedBalanceSheets.centralBankBalanceSheet, centralBankNationalAccountsBalanceSheet);
 		return centralBankNationalAccountsBalanceSheet;
 	}
 
@@ -131,7 +165,7 @@ public class BalanceSheetsModel extends NotificationListenerModel {
 	public BalanceSheetDTO getCreditBankNationalAccountsBalanceSheet() {
 		final BalanceSheetDTO creditBankNationalAccountsBalanceSheet = new BalanceSheetDTO(referenceCurrency);
 
-		for (final BalanceSheetDTO balanceSheet : creditBankBalanceSheets.values()) {
+		for (final BalanceSheetDTO balanceSheet : completedBalanceSheets.creditBankBalanceSheets.values()) {
 			copyBalanceSheetValues(balanceSheet, creditBankNationalAccountsBalanceSheet);
 		}
 
@@ -158,7 +192,7 @@ public class BalanceSheetsModel extends NotificationListenerModel {
 	public BalanceSheetDTO getFactoryNationalAccountsBalanceSheet(final GoodType goodType) {
 		final BalanceSheetDTO factoryNationalAccountsBalanceSheet = new BalanceSheetDTO(referenceCurrency);
 
-		for (final BalanceSheetDTO balanceSheet : factoryBalanceSheets.get(goodType).values()) {
+		for (final BalanceSheetDTO balanceSheet : completedBalanceSheets.factoryBalanceSheets.get(goodType).values()) {
 			copyBalanceSheetValues(balanceSheet, factoryNationalAccountsBalanceSheet);
 		}
 
@@ -171,7 +205,7 @@ public class BalanceSheetsModel extends NotificationListenerModel {
 	public BalanceSheetDTO getHouseholdNationalAccountsBalanceSheet() {
 		final BalanceSheetDTO householdNationalAccountsBalanceSheet = new BalanceSheetDTO(referenceCurrency);
 
-		for (final BalanceSheetDTO balanceSheet : householdBalanceSheets.values()) {
+		for (final BalanceSheetDTO balanceSheet : completedBalanceSheets.householdBalanceSheets.values()) {
 			copyBalanceSheetValues(balanceSheet, householdNationalAccountsBalanceSheet);
 		}
 
@@ -187,8 +221,8 @@ public class BalanceSheetsModel extends NotificationListenerModel {
 		copyBalanceSheetValues(getFactoryNationalAccountsBalanceSheet(), nationalAccountsBalanceSheet);
 		copyBalanceSheetValues(getTraderNationalAccountsBalanceSheet(), nationalAccountsBalanceSheet);
 		copyBalanceSheetValues(getCreditBankNationalAccountsBalanceSheet(), nationalAccountsBalanceSheet);
-		copyBalanceSheetValues(centralBankBalanceSheet, nationalAccountsBalanceSheet);
-		copyBalanceSheetValues(stateBalanceSheet, nationalAccountsBalanceSheet);
+		copyBalanceSheetValues(completedBalanceSheets.centralBankBalanceSheet, nationalAccountsBalanceSheet);
+		copyBalanceSheetValues(completedBalanceSheets.stateBalanceSheet, nationalAccountsBalanceSheet);
 		return nationalAccountsBalanceSheet;
 	}
 
@@ -205,7 +239,7 @@ public class BalanceSheetsModel extends NotificationListenerModel {
 
 	public BalanceSheetDTO getStateNationalAccountsBalanceSheet() {
 		final BalanceSheetDTO stateNationalAccountsBalanceSheet = new BalanceSheetDTO(referenceCurrency);
-		copyBalanceSheetValues(stateBalanceSheet, stateNationalAccountsBalanceSheet);
+		copyBalanceSheetValues(completedBalanceSheets.stateBalanceSheet, stateNationalAccountsBalanceSheet);
 		return stateNationalAccountsBalanceSheet;
 	}
 
@@ -215,29 +249,10 @@ public class BalanceSheetsModel extends NotificationListenerModel {
 	public BalanceSheetDTO getTraderNationalAccountsBalanceSheet() {
 		final BalanceSheetDTO traderNationalAccountsBalanceSheet = new BalanceSheetDTO(referenceCurrency);
 
-		for (final BalanceSheetDTO balanceSheet : traderBalanceSheets.values()) {
+		for (final BalanceSheetDTO balanceSheet : completedBalanceSheets.traderBalanceSheets.values()) {
 			copyBalanceSheetValues(balanceSheet, traderNationalAccountsBalanceSheet);
 		}
 
 		return traderNationalAccountsBalanceSheet;
 	}
-
-	public void nextPeriod() {
-		notifyListeners();
-		resetBalanceSheets();
-	}
-
-	private void resetBalanceSheets() {
-		householdBalanceSheets.clear();
-		factoryBalanceSheets.clear();
-
-		for (final GoodType goodType : GoodType.values()) {
-			factoryBalanceSheets.put(goodType, new HashMap<Factory, BalanceSheetDTO>());
-		}
-
-		traderBalanceSheets.clear();
-		creditBankBalanceSheets.clear();
-		centralBankBalanceSheet = null;
-		stateBalanceSheet = null;
-	}
 }
@@ -0,0 +1,222 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.engine.statistics;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import io.github.uwol.compecon.engine.statistics.timeseries.PeriodDataAccumulatorTimeSeriesModel;
+
+/**
+ * Model detecting a steady state of the simulation. For each monitored series
+ * the values of the last periods are kept in a rolling window. A series is
+ * stable, if its relative standard deviation and its relative drift over the
+ * window stay within the configured tolerances. The simulation has converged,
+ * when all series have been stable for a given number of consecutive periods.
+ */
+public class ConvergenceModel extends NotificationListenerModel {
+
+	/**
+	 * rolling window of period values of a monitored series
+	 */
+	public class MonitoredSeries {
+
+		protected int count = 0;
+
+		protected final PeriodDataAccumulatorTimeSeriesModel model;
+
+		protected int position = 0;
+
+		protected double sum = 0.0;
+
+		protected double sumOfSquares = 0.0;
+
+		protected final String title;
+
+		protected final double[] values;
+
+		public MonitoredSeries(final String title, final PeriodDataAccumulatorTimeSeriesModel model) {
+			this.title = title;
+			this.model = model;
+			values = new double[windowInPeriods];
+		}
+
+		public void add(final double value) {
+			if (count == values.length) {
+				final double removedValue = values[position];
+				sum -= removedValue;
+				sumOfSquares -= removedValue * removedValue;
+			} else {
+				count++;
+			}
+
+			values[position] = value;
+			sum += value;
+			sumOfSquares += value * value;
+			position = (position + 1) % values.length;
+		}
+
+		/**
+		 * @return slope of the least squares line through the window, multiplied with
+		 *         the window length, relative to the mean
+		 */
+		public double getRelativeDrift() {
+			if (count < 2) {
+				return Double.NaN;
+			}
+
+			final double mean = getMean();
+			final double meanX = (count - 1) / 2.0;
+			double covariance = 0.0;
+			double varianceX = 0.0;
+
+			// oldest value is at position, if the window is full
+			final int oldest = count == values.length ? position : 0;
+
+			for (int i = 0; i < count; i++) {
+				final double value = values[(oldest + i) % values.length];
+				covariance += (i - meanX) * (value - mean);
+				varianceX += (i - meanX) * (i - meanX);
+			}
+
+			final double drift = covariance / varianceX * count;
+			return relativeTo(drift, mean);
+		}
+
+		public double getMean() {
+			return count == 0 ? 0.0 : sum / count;
+		}
+
+		/**
+		 * @return coefficient of variation of the window
+		 */
+		public double getRelativeStandardDeviation() {
+			if (count == 0) {
+				return Double.NaN;
+			}
+
+			final double mean = getMean();
+			// rounding errors of the running sums might yield a negative variance
+			final double variance = Math.max(0.0, sumOfSquares / count - mean * mean);
+			return relativeTo(Math.sqrt(variance), mean);
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public boolean isStable() {
+			return count == values.length && getRelativeStandardDeviation() <= varianceTolerance
+					&& Math.abs(getRelativeDrift()) <= driftTolerance;
+		}
+
+		private double relativeTo(final double value, final double mean) {
+			if (mean == 0.0) {
+				// a constant zero series is stable
+				return Math.abs(value) < 0.0000001 ? 0.0 : Double.POSITIVE_INFINITY;
+			}
+			return value / Math.abs(mean);
+		}
+	}
+
+	protected Date convergenceDate;
+
+	protected int convergencePeriod = -1;
+
+	protected final double driftTolerance;
+
+	protected final List<MonitoredSeries> monitoredSeries = new ArrayList<MonitoredSeries>();
+
+	protected int period = 0;
+
+	protected final int requiredStablePeriods;
+
+	protected int stablePeriods = 0;
+
+	protected final double varianceTolerance;
+
+	protected final int windowInPeriods;
+
+	public ConvergenceModel(final int windowInPeriods, final double varianceTolerance, final double driftTolerance,
+			final int requiredStablePeriods) {
+		assert (windowInPeriods > 1);
+
+		this.windowInPeriods = windowInPeriods;
+		this.varianceTolerance = varianceTolerance;
+		this.driftTolerance = driftTolerance;
+		this.requiredStablePeriods = requiredStablePeriods;
+	}
+
+	public void addMonitoredSeries(final String title, final PeriodDataAccumulatorTimeSeriesModel model) {
+		monitoredSeries.add(new MonitoredSeries(title, model));
+	}
+
+	/**
+	 * @return date of the period, in which convergence has been detected; null, if
+	 *         not converged
+	 */
+	public Date getConvergenceDate() {
+		return convergenceDate;
+	}
+
+	/**
+	 * @return number of the monitored period, in which convergence has been
+	 *         detected; -1, if not converged
+	 */
+	public int getConvergencePeriod() {
+		return convergencePeriod;
+	}
+
+	public List<MonitoredSeries> getMonitoredSeries() {
+		return monitoredSeries;
+	}
+
+	public boolean isConverged() {
+		return convergenceDate != null;
+	}
+
+	/**
+	 * reads the values of the completed period from the monitored series; has to
+	 * be called before the period buffers of the series are swapped
+	 */
+	public void nextPeriod(final Date date) {
+		boolean stable = true;
+
+		for (final MonitoredSeries series : monitoredSeries) {
+			series.add(series.model.getValue());
+			stable &= series.isStable();
+		}
+
+		if (stable) {
+			stablePeriods++;
+		} else {
+			stablePeriods = 0;
+		}
+
+		if (!isConverged() && stablePeriods >= requiredStablePeriods) {
+			convergenceDate = date;
+			convergencePeriod = period;
+			notifyListeners();
+		}
+
+		period++;
+	}
+}
@@ -19,7 +19,9 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.statistics;
 
+import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
@@ -37,6 +39,14 @@ import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
  */
 public class MarketDepthModel extends NotificationListenerModel {
 
+	/**
+	 * listeners read the live market orders, so that they are notified on the
+	 * simulation thread
+	 */
+	public void completePeriod(final Date date, final List<Runnable> publications) {
+		notifyListeners();
+	}
+
 	public XYDataset getMarketDepthDataset(final Currency currency, final Currency commodityCurrency) {
 		final XYSeries series = new XYSeries(commodityCurrency.getIso4217Code() + " ask");
 
@@ -76,8 +86,4 @@ public class MarketDepthModel extends NotificationListenerModel {
 		dataset.addSeries(series);
 		return dataset;
 	}
-
-	public void nextPeriod() {
-		notifyListeners();
-	}
 }
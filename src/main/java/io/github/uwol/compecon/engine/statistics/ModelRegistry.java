@@ -19,8 +19,16 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.statistics;
 
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import io.github.uwol.compecon.economy.agent.Agent;
 import io.github.uwol.compecon.economy.behaviour.PricingBehaviour.PricingBehaviourNewPriceDecisionCause;
@@ -28,6 +36,8 @@ import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.materia.InputOutputModel;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
+import io.github.uwol.compecon.engine.applicationcontext.Configuration.ConvergenceConfig;
+import io.github.uwol.compecon.engine.statistics.ModelRegistry.NationalEconomyModel.IndustryModel;
 import io.github.uwol.compecon.engine.statistics.timeseries.PeriodDataAccumulatorTimeSeriesModel;
 import io.github.uwol.compecon.engine.statistics.timeseries.PeriodDataPercentageTimeSeriesModel;
 import io.github.uwol.compecon.engine.statistics.timeseries.PeriodDataQuotientTimeSeriesModel;
@@ -101,26 +111,26 @@ public class ModelRegistry {
 				utilityModel = new UtilityModel(this.currency, inputOutputModel);
 			}
 
-			public void nextPeriod() {
+			public void completePeriod(final Date date, final List<Runnable> publications) {
 				for (final PeriodDataAccumulatorTimeSeriesModel periodDataAccumulatorTimeSeriesModel : convexFunctionTerminationCauseModels
 						.values()) {
-					periodDataAccumulatorTimeSeriesModel.nextPeriod();
+					periodDataAccumulatorTimeSeriesModel.completePeriod(date, publications);
 				}
 
-				budgetModel.nextPeriod();
-				consumptionModel.nextPeriod();
-				consumptionRateModel.nextPeriod();
-				dividendModel.nextPeriod();
-				governmentTransfersModel.nextPeriod();
-				incomeModel.nextPeriod();
-				incomeSourceModel.nextPeriod();
-				incomeDistributionModel.nextPeriod();
-				labourHourCapacityModel.nextPeriod();
-				retiredModel.nextPeriod();
-				savingModel.nextPeriod();
-				savingRateModel.nextPeriod();
-				utilityModel.nextPeriod();
-				wageModel.nextPeriod();
+				budgetModel.completePeriod(date, publications);
+				consumptionModel.completePeriod(date, publications);
+				consumptionRateModel.completePeriod(date, publications);
+				dividendModel.completePeriod(date, publications);
+				governmentTransfersModel.completePeriod(date, publications);
+				incomeModel.completePeriod(date, publications);
+				incomeSourceModel.completePeriod(date, publications);
+				incomeDistributionModel.completePeriod(date, publications);
+				labourHourCapacityModel.completePeriod(date, publications);
+				retiredModel.completePeriod(date, publications);
+				savingModel.completePeriod(date, publications);
+				savingRateModel.completePeriod(date, publications);
+				utilityModel.completePeriod(date, publications);
+				wageModel.completePeriod(date, publications);
 			}
 		}
 
@@ -178,20 +188,20 @@ public class ModelRegistry {
 				}
 			}
 
-			public void nextPeriod() {
-				capitalDepreciationModel.nextPeriod();
-				outputModel.nextPeriod();
-				budgetModel.nextPeriod();
-				inventoryModel.nextPeriod();
+			public void completePeriod(final Date date, final List<Runnable> publications) {
+				capitalDepreciationModel.completePeriod(date, publications);
+				outputModel.completePeriod(date, publications);
+				budgetModel.completePeriod(date, publications);
+				inventoryModel.completePeriod(date, publications);
 
 				for (final PeriodDataAccumulatorTimeSeriesModel periodDataAccumulatorTimeSeriesModel : inputModels
 						.values()) {
-					periodDataAccumulatorTimeSeriesModel.nextPeriod();
+					periodDataAccumulatorTimeSeriesModel.completePeriod(date, publications);
 				}
 
 				for (final PeriodDataAccumulatorTimeSeriesModel periodDataAccumulatorTimeSeriesModel : convexProductionFunctionTerminationCauseModels
 						.values()) {
-					periodDataAccumulatorTimeSeriesModel.nextPeriod();
+					periodDataAccumulatorTimeSeriesModel.completePeriod(date, publications);
 				}
 			}
 		}
@@ -232,14 +242,14 @@ public class ModelRegistry {
 				}
 			}
 
-			public void nextPeriod() {
-				pricingBehaviourAveragePriceDecisionCauseModel.nextPeriod();
-				offerModel.nextPeriod();
-				soldModel.nextPeriod();
+			public void completePeriod(final Date date, final List<Runnable> publications) {
+				pricingBehaviourAveragePriceDecisionCauseModel.completePeriod(date, publications);
+				offerModel.completePeriod(date, publications);
+				soldModel.completePeriod(date, publications);
 
 				for (final PeriodDataAccumulatorTimeSeriesModel periodDataAccumulatorTimeSeriesModel : pricingBehaviourPriceDecisionCauseModels
 						.values()) {
-					periodDataAccumulatorTimeSeriesModel.nextPeriod();
+					periodDataAccumulatorTimeSeriesModel.completePeriod(date, publications);
 				}
 			}
 		}
@@ -260,8 +270,8 @@ public class ModelRegistry {
 				utilityModel = new UtilityModel(this.currency, inputOutputModel);
 			}
 
-			public void nextPeriod() {
-				utilityModel.nextPeriod();
+			public void completePeriod(final Date date, final List<Runnable> publications) {
+				utilityModel.completePeriod(date, publications);
 			}
 		}
 
@@ -286,12 +296,12 @@ public class ModelRegistry {
 				}
 			}
 
-			public void nextPeriod() {
-				utilityOutputModel.nextPeriod();
+			public void completePeriod(final Date date, final List<Runnable> publications) {
+				utilityOutputModel.completePeriod(date, publications);
 
 				for (final PeriodDataAccumulatorTimeSeriesModel periodDataAccumulatorTimeSeriesModel : utilityInputModels
 						.values()) {
-					periodDataAccumulatorTimeSeriesModel.nextPeriod();
+					periodDataAccumulatorTimeSeriesModel.completePeriod(date, publications);
 				}
 			}
 		}
@@ -327,6 +337,12 @@ public class ModelRegistry {
 		 * prices
 		 */
 
+		public final PeriodDataAccumulatorTimeSeriesModel chainedLaspeyresPriceIndexModel;
+
+		public final PeriodDataAccumulatorTimeSeriesModel chainedPaaschePriceIndexModel;
+
+		public final PeriodDataAccumulatorTimeSeriesModel ewmaPriceIndexModel;
+
 		public final PeriodDataAccumulatorTimeSeriesModel keyInterestRateModel;
 
 		public final MarketDepthModel marketDepthModel;
@@ -401,6 +417,12 @@ public class ModelRegistry {
 					currency.getIso4217Code() + " money circulation");
 			moneyVelocityModel = new PeriodDataQuotientTimeSeriesModel(currency.getIso4217Code() + " money velocity");
 			priceIndexModel = new PeriodDataAccumulatorTimeSeriesModel(currency.getIso4217Code() + " price index");
+			ewmaPriceIndexModel = new PeriodDataAccumulatorTimeSeriesModel(
+					currency.getIso4217Code() + " EWMA price index");
+			chainedLaspeyresPriceIndexModel = new PeriodDataAccumulatorTimeSeriesModel(
+					currency.getIso4217Code() + " chained Laspeyres price index");
+			chainedPaaschePriceIndexModel = new PeriodDataAccumulatorTimeSeriesModel(
+					currency.getIso4217Code() + " chained Paasche price index");
 			creditUtilizationRateModel = new PeriodDataQuotientTimeSeriesModel(
 					currency.getIso4217Code() + " credit util. rate");
 			balanceSheetsModel = new BalanceSheetsModel(currency);
@@ -410,51 +432,68 @@ public class ModelRegistry {
 					currency.getIso4217Code() + " total utility");
 		}
 
-		public IndustryModel getIndustryModel(final GoodType goodType) {
-			return industryModels.get(goodType);
-		}
-
-		public PricingBehaviourModel getPricingBehaviourModel(final GoodType goodType) {
-			return pricingBehaviourModels.get(goodType);
-		}
-
-		public void nextPeriod() {
+		public void completePeriod(final Date date, final List<Runnable> publications) {
 			moneyVelocityModel.add(moneyCirculationModel.getValue(), moneySupplyM1Model.getValue());
 
 			for (final IndustryModel goodTypeProductionModel : industryModels.values()) {
-				goodTypeProductionModel.nextPeriod();
+				goodTypeProductionModel.completePeriod(date, publications);
 			}
 
 			for (final PricingBehaviourModel pricingBehaviourModel : pricingBehaviourModels.values()) {
-				pricingBehaviourModel.nextPeriod();
+				pricingBehaviourModel.completePeriod(date, publications);
 			}
 
-			householdsModel.nextPeriod();
-			balanceSheetsModel.nextPeriod();
-			creditUtilizationRateModel.nextPeriod();
-			keyInterestRateModel.nextPeriod();
-			marketDepthModel.nextPeriod();
-			monetaryTransactionsModel.nextPeriod();
-			moneySupplyM0Model.nextPeriod();
-			moneySupplyM1Model.nextPeriod();
-			moneySupplyM2Model.nextPeriod();
-			moneyCirculationModel.nextPeriod();
-			moneyVelocityModel.nextPeriod();
+			householdsModel.completePeriod(date, publications);
+			balanceSheetsModel.completePeriod(date, publications);
+			creditUtilizationRateModel.completePeriod(date, publications);
+			keyInterestRateModel.completePeriod(date, publications);
+			marketDepthModel.completePeriod(date, publications);
+			monetaryTransactionsModel.completePeriod(date, publications);
+			moneySupplyM0Model.completePeriod(date, publications);
+			moneySupplyM1Model.completePeriod(date, publications);
+			moneySupplyM2Model.completePeriod(date, publications);
+			moneyCirculationModel.completePeriod(date, publications);
+			moneyVelocityModel.completePeriod(date, publications);
 
 			for (final PeriodDataAccumulatorTimeSeriesModel numberOfAgentsModel : numberOfAgentsModels.values()) {
-				numberOfAgentsModel.nextPeriod();
+				numberOfAgentsModel.completePeriod(date, publications);
 			}
 
-			pricesModel.nextPeriod();
-			priceIndexModel.nextPeriod();
-			stateModel.nextPeriod();
+			pricesModel.completePeriod(date, publications);
+			priceIndexModel.completePeriod(date, publications);
+			ewmaPriceIndexModel.completePeriod(date, publications);
+			chainedLaspeyresPriceIndexModel.completePeriod(date, publications);
+			chainedPaaschePriceIndexModel.completePeriod(date, publications);
+			stateModel.completePeriod(date, publications);
+		}
+
+		public IndustryModel getIndustryModel(final GoodType goodType) {
+			return industryModels.get(goodType);
+		}
+
+		public PricingBehaviourModel getPricingBehaviourModel(final GoodType goodType) {
+			return pricingBehaviourModels.get(goodType);
 		}
 	}
 
 	protected final AgentDetailModel agentDetailModel = new AgentDetailModel();
 
+	protected final ConvergenceModel convergenceModel;
+
 	protected final Map<Currency, NationalEconomyModel> nationalEconomyModels = new HashMap<Currency, NationalEconomyModel>();
 
+	/**
+	 * publication of the last completed period, which might still be running on
+	 * the statistics thread
+	 */
+	protected Future<?> pendingPeriodPublication;
+
+	/**
+	 * single worker thread for publishing completed periods; null, if statistics
+	 * are published on the simulation thread
+	 */
+	protected final ExecutorService statisticsExecutor;
+
 	protected final TimeSystemModel timeSystemModel = new TimeSystemModel();
 
 	/**
@@ -464,12 +503,67 @@ public class ModelRegistry {
 		for (final Currency currency : Currency.values()) {
 			nationalEconomyModels.put(currency, new NationalEconomyModel(currency, inputOutputModel));
 		}
+
+		final ConvergenceConfig convergenceConfig = ApplicationContext.getInstance()
+				.getConfiguration().convergenceConfig;
+		convergenceModel = new ConvergenceModel(convergenceConfig.getWindowInDays(),
+				convergenceConfig.getVarianceTolerance(), convergenceConfig.getDriftTolerance(),
+				convergenceConfig.getStableDays());
+
+		for (final NationalEconomyModel nationalEconomyModel : nationalEconomyModels.values()) {
+			final String prefix = nationalEconomyModel.currency.getIso4217Code();
+
+			convergenceModel.addMonitoredSeries(prefix + " price index", nationalEconomyModel.priceIndexModel);
+			convergenceModel.addMonitoredSeries(prefix + " M1", nationalEconomyModel.moneySupplyM1Model);
+			convergenceModel.addMonitoredSeries(prefix + " utility",
+					nationalEconomyModel.householdsModel.utilityModel.utilityOutputModel);
+
+			for (final IndustryModel industryModel : nationalEconomyModel.industryModels.values()) {
+				convergenceModel.addMonitoredSeries(prefix + " " + industryModel.goodType + " output",
+						industryModel.outputModel);
+			}
+		}
+
+		if (ApplicationContext.getInstance().getConfiguration().statisticsConfig.isBackgroundThread()) {
+			statisticsExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(final Runnable runnable) {
+					final Thread thread = new Thread(runnable, "statistics");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		} else {
+			statisticsExecutor = null;
+		}
+	}
+
+	/**
+	 * waits until the last completed period has been published to time series and
+	 * listeners
+	 */
+	public void awaitPeriodPublication() {
+		if (pendingPeriodPublication != null) {
+			try {
+				pendingPeriodPublication.get();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (final ExecutionException e) {
+				e.printStackTrace();
+			}
+
+			pendingPeriodPublication = null;
+		}
 	}
 
 	public AgentDetailModel getAgentDetailModel() {
 		return agentDetailModel;
 	}
 
+	public ConvergenceModel getConvergenceModel() {
+		return convergenceModel;
+	}
+
 	public NationalEconomyModel getNationalEconomyModel(final Currency currency) {
 		return nationalEconomyModels.get(currency);
 	}
@@ -482,12 +576,54 @@ public class ModelRegistry {
 		timeSystemModel.nextHour();
 	}
 
+	/**
+	 * completes the period buffers of all models on the simulation thread and
+	 * publishes the completed period either directly or on the statistics thread.
+	 * At most one period is in publication, so that the models are double-buffered.
+	 * Models without period buffers, whose listeners read the live simulation
+	 * state, notify their listeners directly on the simulation thread.
+	 */
 	public void nextPeriod() {
+		final Date date = ApplicationContext.getInstance().getTimeSystem().getCurrentDate();
+		final List<Runnable> publications = new ArrayList<Runnable>();
+
+		// convergence is measured after the initialization phase
+		if (ApplicationContext.getInstance().getConfiguration().convergenceConfig.isActive()
+				&& !ApplicationContext.getInstance().getTimeSystem().isInitializationPhase()) {
+			convergenceModel.nextPeriod(date);
+		}
+
 		agentDetailModel.notifyListeners();
 
 		for (final NationalEconomyModel nationalEconomyModel : nationalEconomyModels.values()) {
-			nationalEconomyModel.nextPeriod();
+			nationalEconomyModel.completePeriod(date, publications);
+		}
+
+		final Runnable periodPublication = new Runnable() {
+			@Override
+			public void run() {
+				for (final Runnable publication : publications) {
+					publication.run();
+				}
+			}
+		};
+
+		if (statisticsExecutor == null) {
+			periodPublication.run();
+		} else {
+			awaitPeriodPublication();
+			pendingPeriodPublication = statisticsExecutor.submit(periodPublication);
 		}
 	}
 
+	/**
+	 * publishes the pending period and stops the statistics thread
+	 */
+	public void shutdown() {
+		awaitPeriodPublication();
+
+		if (statisticsExecutor != null) {
+			statisticsExecutor.shutdown();
+		}
+	}
 }
@@ -19,7 +19,9 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.statistics;
 
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.github.uwol.compecon.economy.agent.Agent;
@@ -31,9 +33,29 @@ import io.github.uwol.compecon.engine.statistics.accumulator.PeriodDataAccumulat
 public class MonetaryTransactionsModel extends NotificationListenerModel {
 
 	// stores transaction values in a type-safe way
-	protected Map<Class<? extends Agent>, Map<Class<? extends Agent>, PeriodDataAccumulator>> adjacencyMatrix = new HashMap<Class<? extends Agent>, Map<Class<? extends Agent>, PeriodDataAccumulator>>();
+	protected Map<Class<? extends Agent>, Map<Class<? extends Agent>, PeriodDataAccumulator>> adjacencyMatrix = createAdjacencyMatrix();
+
+	// transaction values of the last completed period
+	protected volatile Map<Class<? extends Agent>, Map<Class<? extends Agent>, PeriodDataAccumulator>> completedAdjacencyMatrix = createAdjacencyMatrix();
+
+	public void bank_onTransfer(final Class<? extends BankCustomer> from, final Class<? extends BankCustomer> to,
+			final Currency currency, final double value) {
+		adjacencyMatrix.get(from).get(to).add(value);
+	}
+
+	/**
+	 * swaps the adjacency matrix of the current period
+	 */
+	public void completePeriod(final Date date, final List<Runnable> publications) {
+		completedAdjacencyMatrix = adjacencyMatrix;
+		adjacencyMatrix = createAdjacencyMatrix();
+
+		publications.add(notifyListenersTask);
+	}
+
+	protected Map<Class<? extends Agent>, Map<Class<? extends Agent>, PeriodDataAccumulator>> createAdjacencyMatrix() {
+		final Map<Class<? extends Agent>, Map<Class<? extends Agent>, PeriodDataAccumulator>> adjacencyMatrix = new HashMap<Class<? extends Agent>, Map<Class<? extends Agent>, PeriodDataAccumulator>>();
 
-	public MonetaryTransactionsModel() {
 		// from
 		for (final Class<? extends Agent> agentTypeFrom : ApplicationContext.getInstance().getAgentFactory()
 				.getAgentTypes()) {
@@ -46,26 +68,14 @@ public class MonetaryTransactionsModel extends NotificationListenerModel {
 				toMap.put(agentTypeTo, new PeriodDataAccumulator());
 			}
 		}
-	}
 
-	public void bank_onTransfer(final Class<? extends BankCustomer> from, final Class<? extends BankCustomer> to,
-			final Currency currency, final double value) {
-		adjacencyMatrix.get(from).get(to).add(value);
-	}
-
-	public Map<Class<? extends Agent>, Map<Class<? extends Agent>, PeriodDataAccumulator>> getAdjacencyMatrix() {
 		return adjacencyMatrix;
 	}
 
-	public void nextPeriod() {
-		notifyListeners();
-
-		for (final Class<? extends Agent> agentTypeFrom : ApplicationContext.getInstance().getAgentFactory()
-				.getAgentTypes()) {
-			for (final Class<? extends Agent> agentTypeTo : ApplicationContext.getInstance().getAgentFactory()
-					.getAgentTypes()) {
-				adjacencyMatrix.get(agentTypeFrom).get(agentTypeTo).reset();
-			}
-		}
+	/**
+	 * @return transaction values of the last completed period
+	 */
+	public Map<Class<? extends Agent>, Map<Class<? extends Agent>, PeriodDataAccumulator>> getAdjacencyMatrix() {
+		return completedAdjacencyMatrix;
 	}
 }
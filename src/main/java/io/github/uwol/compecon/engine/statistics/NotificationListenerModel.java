@@ -30,6 +30,16 @@ public abstract class NotificationListenerModel {
 
 	protected List<ModelListener> listeners = new ArrayList<ModelListener>();
 
+	/**
+	 * task for notifying listeners from a statistics thread
+	 */
+	protected final Runnable notifyListenersTask = new Runnable() {
+		@Override
+		public void run() {
+			notifyListeners();
+		}
+	};
+
 	protected NotificationListenerModel() {
 	}
 
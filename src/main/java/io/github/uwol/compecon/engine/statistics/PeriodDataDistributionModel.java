@@ -21,6 +21,7 @@ package io.github.uwol.compecon.engine.statistics;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 
 import org.jfree.data.statistics.HistogramDataset;
@@ -75,7 +76,7 @@ public class PeriodDataDistributionModel extends NotificationListenerModel {
 		public double yTotalSum;
 	}
 
-	protected HistogramDataset datasetsHistogram = new HistogramDataset();
+	protected volatile HistogramDataset datasetsHistogram = new HistogramDataset();
 
 	protected XYSeriesCollection datasetsLorenzCurve = new XYSeriesCollection();
 
@@ -83,7 +84,7 @@ public class PeriodDataDistributionModel extends NotificationListenerModel {
 
 	protected final Currency referenceCurrency;
 
-	protected SummaryStatisticalData summaryStatisticalData = new SummaryStatisticalData();
+	protected volatile SummaryStatisticalData summaryStatisticalData = new SummaryStatisticalData();
 
 	protected List<Double> values = new ArrayList<Double>();
 
@@ -95,6 +96,22 @@ public class PeriodDataDistributionModel extends NotificationListenerModel {
 		values.add(value);
 	}
 
+	/**
+	 * swaps the value buffer of the current period; histogram and lorenz curve of
+	 * the completed period are calculated by the publication task
+	 */
+	public void completePeriod(final Date date, final List<Runnable> publications) {
+		final List<Double> completedValues = values;
+		values = new ArrayList<Double>();
+
+		publications.add(new Runnable() {
+			@Override
+			public void run() {
+				publishPeriod(completedValues);
+			}
+		});
+	}
+
 	public HistogramDataset getHistogramDataset() {
 		return datasetsHistogram;
 	}
@@ -107,9 +124,8 @@ public class PeriodDataDistributionModel extends NotificationListenerModel {
 		return summaryStatisticalData;
 	}
 
-	public void nextPeriod() {
-		final double[] valuesAsArray = Doubles.toArray(values);
-		values.clear();
+	protected void publishPeriod(final List<Double> completedValues) {
+		final double[] valuesAsArray = Doubles.toArray(completedValues);
 		Arrays.sort(valuesAsArray);
 
 		/*
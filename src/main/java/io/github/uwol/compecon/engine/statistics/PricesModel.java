@@ -22,6 +22,7 @@ package io.github.uwol.compecon.engine.statistics;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import io.github.uwol.compecon.economy.materia.GoodType;
@@ -129,6 +130,14 @@ public class PricesModel extends NotificationListenerModel {
 
 	protected final Map<GoodType, PriceModel> priceModelsForGoodTypes = new HashMap<GoodType, PriceModel>();
 
+	/**
+	 * listeners read the live price models, so that they are notified on the
+	 * simulation thread
+	 */
+	public void completePeriod(final Date date, final List<Runnable> publications) {
+		notifyListeners();
+	}
+
 	public Map<Currency, PriceModel> getPriceModelsForCurrencies() {
 		return priceModelsForCurrencies;
 	}
@@ -154,8 +163,4 @@ public class PricesModel extends NotificationListenerModel {
 
 		priceModelsForGoodTypes.get(goodType).tick(pricePerUnit, amount);
 	}
-
-	public void nextPeriod() {
-		notifyListeners();
-	}
 }
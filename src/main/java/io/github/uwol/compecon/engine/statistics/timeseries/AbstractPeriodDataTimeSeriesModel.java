@@ -19,6 +19,9 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.statistics.timeseries;
 
+import java.util.Date;
+import java.util.List;
+
 import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
 
@@ -35,5 +38,10 @@ public abstract class AbstractPeriodDataTimeSeriesModel {
 		return timeSeries;
 	}
 
-	public abstract void nextPeriod();
+	/**
+	 * completes the current period on the simulation thread by swapping the period
+	 * buffers and adds a task to publications, which writes the completed period
+	 * into the time series; publications may be run on a statistics thread
+	 */
+	public abstract void completePeriod(final Date date, final List<Runnable> publications);
 }
@@ -19,13 +19,17 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.statistics.timeseries;
 
+import java.util.Date;
+import java.util.List;
+
 import org.jfree.data.time.Day;
 
-import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.statistics.accumulator.PeriodDataAccumulator;
 
 public class PeriodDataAccumulatorTimeSeriesModel extends AbstractPeriodDataSingleTimeSeriesModel {
 
+	protected volatile double lastPeriodValue;
+
 	protected final PeriodDataAccumulator periodDataAccumulator = new PeriodDataAccumulator();
 
 	public PeriodDataAccumulatorTimeSeriesModel(final String title) {
@@ -36,14 +40,31 @@ public class PeriodDataAccumulatorTimeSeriesModel extends AbstractPeriodDataSing
 		periodDataAccumulator.add(amount);
 	}
 
-	public double getValue() {
-		return periodDataAccumulator.getAmount();
-	}
-
 	@Override
-	public void nextPeriod() {
-		timeSeries.addOrUpdate(new Day(ApplicationContext.getInstance().getTimeSystem().getCurrentDate()),
-				periodDataAccumulator.getAmount());
+	public void completePeriod(final Date date, final List<Runnable> publications) {
+		final double value = periodDataAccumulator.getAmount();
 		periodDataAccumulator.reset();
+
+		publications.add(new Runnable() {
+			@Override
+			public void run() {
+				lastPeriodValue = value;
+				timeSeries.addOrUpdate(new Day(date), value);
+			}
+		});
+	}
+
+	/**
+	 * @return value of the last published period
+	 */
+	public double getLastPeriodValue() {
+		return lastPeriodValue;
+	}
+
+	/**
+	 * @return value accumulated in the current period
+	 */
+	public double getValue() {
+		return periodDataAccumulator.getAmount();
 	}
 }
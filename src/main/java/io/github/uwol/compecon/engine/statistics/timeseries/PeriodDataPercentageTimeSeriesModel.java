@@ -19,13 +19,14 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.statistics.timeseries;
 
+import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.jfree.data.time.Day;
 
-import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.statistics.accumulator.PeriodDataAccumulator;
 
 public class PeriodDataPercentageTimeSeriesModel<I> extends AbstractPeriodDataMultipleTimeSeriesModel<I> {
@@ -44,23 +45,31 @@ public class PeriodDataPercentageTimeSeriesModel<I> extends AbstractPeriodDataMu
 		this.periodDataAccumulator.get(indexType).add(amount);
 	}
 
-	public double getValue(final I indexType) {
-		return this.periodDataAccumulator.get(indexType).getAmount();
-	}
-
 	@Override
-	public void nextPeriod() {
+	public void completePeriod(final Date date, final List<Runnable> publications) {
 		double sum = 0;
 		for (final PeriodDataAccumulator periodDataAccumulator : this.periodDataAccumulator.values()) {
 			sum += periodDataAccumulator.getAmount();
 		}
 
+		final Map<I, Double> percentages = new HashMap<I, Double>();
+
 		for (final Entry<I, PeriodDataAccumulator> entry : this.periodDataAccumulator.entrySet()) {
-			// write into time series
-			timeSeries.get(entry.getKey()).addOrUpdate(
-					new Day(ApplicationContext.getInstance().getTimeSystem().getCurrentDate()),
-					entry.getValue().getAmount() / sum);
-			entry.getValue();
+			percentages.put(entry.getKey(), entry.getValue().getAmount() / sum);
 		}
+
+		publications.add(new Runnable() {
+			@Override
+			public void run() {
+				for (final Entry<I, Double> entry : percentages.entrySet()) {
+					// write into time series
+					timeSeries.get(entry.getKey()).addOrUpdate(new Day(date), entry.getValue());
+				}
+			}
+		});
+	}
+
+	public double getValue(final I indexType) {
+		return this.periodDataAccumulator.get(indexType).getAmount();
 	}
 }
@@ -19,9 +19,11 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.statistics.timeseries;
 
+import java.util.Date;
+import java.util.List;
+
 import org.jfree.data.time.Day;
 
-import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.statistics.accumulator.PeriodDataAccumulator;
 
 public class PeriodDataQuotientTimeSeriesModel extends AbstractPeriodDataSingleTimeSeriesModel {
@@ -39,6 +41,21 @@ public class PeriodDataQuotientTimeSeriesModel extends AbstractPeriodDataSingleT
 		periodDataDivisorModel.add(divisorAmount);
 	}
 
+	@Override
+	public void completePeriod(final Date date, final List<Runnable> publications) {
+		final double value = getValue();
+
+		periodDataDividendModel.reset();
+		periodDataDivisorModel.reset();
+
+		publications.add(new Runnable() {
+			@Override
+			public void run() {
+				timeSeries.addOrUpdate(new Day(date), value);
+			}
+		});
+	}
+
 	public double getValue() {
 		// Double.NaN or Double.Infinite leads to blank JFreeChart diagrams
 		if (periodDataDivisorModel.getAmount() == 0.0) {
@@ -47,12 +64,4 @@ public class PeriodDataQuotientTimeSeriesModel extends AbstractPeriodDataSingleT
 
 		return periodDataDividendModel.getAmount() / periodDataDivisorModel.getAmount();
 	}
-
-	@Override
-	public void nextPeriod() {
-		timeSeries.addOrUpdate(new Day(ApplicationContext.getInstance().getTimeSystem().getCurrentDate()), getValue());
-
-		periodDataDividendModel.reset();
-		periodDataDivisorModel.reset();
-	}
 }
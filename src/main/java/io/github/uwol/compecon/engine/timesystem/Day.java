@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.timesystem;
 
+import java.util.Map;
 import java.util.Set;
 
 import io.github.uwol.compecon.engine.timesystem.impl.DayType;
@@ -28,9 +29,10 @@ public interface Day {
 
 	public void addEvent(final TimeSystemEvent event, final HourType hourType);
 
-	public DayType getDayType();
+	public void collectEvents(final HourType hourType,
+			final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> batches);
 
-	public Set<TimeSystemEvent> getEvents(final HourType hourType);
+	public DayType getDayType();
 
 	public void removeEvents(final Set<TimeSystemEvent> events);
 }
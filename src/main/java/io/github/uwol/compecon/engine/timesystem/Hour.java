@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.timesystem;
 
+import java.util.Map;
 import java.util.Set;
 
 import io.github.uwol.compecon.engine.timesystem.impl.HourType;
@@ -27,7 +28,12 @@ public interface Hour {
 
 	public void addEvent(final TimeSystemEvent event);
 
-	public Set<TimeSystemEvent> getEvents();
+	/**
+	 * adds the events of this hour to the given batches, grouped by event class
+	 */
+	public void collectEvents(final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> batches);
+
+	public Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> getEvents();
 
 	public HourType getHourType();
 
@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.timesystem;
 
+import java.util.Map;
 import java.util.Set;
 
 import io.github.uwol.compecon.engine.timesystem.impl.DayType;
@@ -29,7 +30,8 @@ public interface Month {
 
 	public void addEvent(final TimeSystemEvent event, final DayType dayType, HourType hourType);
 
-	public Set<TimeSystemEvent> getEvents(final DayType dayType, final HourType hourType);
+	public void collectEvents(final DayType dayType, final HourType hourType,
+			final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> batches);
 
 	public MonthType getMonthType();
 }
@@ -19,6 +19,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.timesystem;
 
+import java.util.Map;
 import java.util.Set;
 
 import io.github.uwol.compecon.engine.timesystem.impl.DayType;
@@ -30,7 +31,8 @@ public interface Year {
 	public void addEvent(final TimeSystemEvent event, final MonthType monthType, final DayType dayType,
 			final HourType hourType);
 
-	public Set<TimeSystemEvent> getEvents(final MonthType monthType, final DayType dayType, final HourType hourType);
+	public void collectEvents(final MonthType monthType, final DayType dayType, final HourType hourType,
+			final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> batches);
 
 	public void removeEvents(final Set<TimeSystemEvent> events);
 }
@@ -20,7 +20,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 package io.github.uwol.compecon.engine.timesystem.impl;
 
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import io.github.uwol.compecon.engine.timesystem.Day;
@@ -45,26 +45,23 @@ public class DayImpl implements Day {
 	}
 
 	@Override
-	public DayType getDayType() {
-		return dayType;
-	}
-
-	@Override
-	public Set<TimeSystemEvent> getEvents(final HourType hourType) {
+	public void collectEvents(final HourType hourType,
+			final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> batches) {
 		final HourImpl hourExact = hours.get(hourType);
 		final HourImpl hourEvery = hours.get(HourType.EVERY);
 
-		final Set<TimeSystemEvent> events = new HashSet<TimeSystemEvent>();
-
 		if (hourExact != null) {
-			events.addAll(hourExact.getEvents());
+			hourExact.collectEvents(batches);
 		}
 
 		if (hourEvery != null) {
-			events.addAll(hourEvery.getEvents());
+			hourEvery.collectEvents(batches);
 		}
+	}
 
-		return events;
+	@Override
+	public DayType getDayType() {
+		return dayType;
 	}
 
 	@Override
@@ -19,15 +19,23 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.engine.timesystem.impl;
 
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import io.github.uwol.compecon.engine.timesystem.Hour;
 import io.github.uwol.compecon.engine.timesystem.TimeSystemEvent;
 
+/**
+ * Events are grouped by their event class, so that the time system can
+ * dispatch all events of one type as a batch. Insertion-ordered sets keep
+ * registration order deterministic and removal constant-time.
+ */
 public class HourImpl implements Hour {
 
-	private final Set<TimeSystemEvent> events = new HashSet<TimeSystemEvent>();
+	private final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> events = new LinkedHashMap<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>>();
 
 	private final HourType hourType;
 
@@ -37,11 +45,34 @@ public class HourImpl implements Hour {
 
 	@Override
 	public void addEvent(final TimeSystemEvent event) {
-		events.add(event);
+		Set<TimeSystemEvent> eventsOfType = events.get(event.getClass());
+
+		if (eventsOfType == null) {
+			eventsOfType = new LinkedHashSet<TimeSystemEvent>();
+			events.put(event.getClass(), eventsOfType);
+		}
+
+		eventsOfType.add(event);
 	}
 
 	@Override
-	public Set<TimeSystemEvent> getEvents() {
+	public void collectEvents(final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> batches) {
+		for (final Entry<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> entry : events.entrySet()) {
+			if (!entry.getValue().isEmpty()) {
+				Set<TimeSystemEvent> batch = batches.get(entry.getKey());
+
+				if (batch == null) {
+					batch = new LinkedHashSet<TimeSystemEvent>();
+					batches.put(entry.getKey(), batch);
+				}
+
+				batch.addAll(entry.getValue());
+			}
+		}
+	}
+
+	@Override
+	public Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> getEvents() {
 		return events;
 	}
 
@@ -52,6 +83,12 @@ public class HourImpl implements Hour {
 
 	@Override
 	public void removeEvents(final Set<TimeSystemEvent> events) {
-		this.events.removeAll(events);
+		for (final TimeSystemEvent event : events) {
+			final Set<TimeSystemEvent> eventsOfType = this.events.get(event.getClass());
+
+			if (eventsOfType != null) {
+				eventsOfType.remove(event);
+			}
+		}
 	}
 }
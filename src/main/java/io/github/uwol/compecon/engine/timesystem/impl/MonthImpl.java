@@ -20,7 +20,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 package io.github.uwol.compecon.engine.timesystem.impl;
 
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import io.github.uwol.compecon.engine.timesystem.Month;
@@ -45,21 +45,18 @@ public class MonthImpl implements Month {
 	}
 
 	@Override
-	public Set<TimeSystemEvent> getEvents(final DayType dayType, final HourType hourType) {
+	public void collectEvents(final DayType dayType, final HourType hourType,
+			final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> batches) {
 		final DayImpl dayExact = days.get(dayType);
 		final DayImpl dayEvery = days.get(DayType.EVERY);
 
-		final Set<TimeSystemEvent> events = new HashSet<TimeSystemEvent>();
-
 		if (dayExact != null) {
-			events.addAll(dayExact.getEvents(hourType));
+			dayExact.collectEvents(hourType, batches);
 		}
 
 		if (dayEvery != null) {
-			events.addAll(dayEvery.getEvents(hourType));
+			dayEvery.collectEvents(hourType, batches);
 		}
-
-		return events;
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -37,10 +38,18 @@ import io.github.uwol.compecon.engine.util.HibernateUtil;
 
 /**
  * Agents register their actions as events in the time system (observer
- * pattern).
+ * pattern). Events of one hour are dispatched in batches grouped by event
+ * class, with a shuffled order of the batches and of the events within each
+ * batch.
  */
 public class TimeSystemImpl implements TimeSystem {
 
+	/**
+	 * dense buffer for the events of the batch being dispatched; reused across
+	 * hours
+	 */
+	private TimeSystemEvent[] batchBuffer = new TimeSystemEvent[256];
+
 	private final SimpleDateFormat dayFormat = new SimpleDateFormat("dd.MM.yyyy HH:mm");
 
 	private int dayNumber = 0;
@@ -217,6 +226,45 @@ public class TimeSystemImpl implements TimeSystem {
 		return dayFormat.format(gregorianCalendar.getTime());
 	}
 
+	/**
+	 * dispatches the events of one event class in shuffled order
+	 */
+	private void triggerBatch(final Set<TimeSystemEvent> batch, final Random random) {
+		final int size = batch.size();
+
+		if (batchBuffer.length < size) {
+			batchBuffer = new TimeSystemEvent[Math.max(size, batchBuffer.length * 2)];
+		}
+
+		final TimeSystemEvent[] events = batch.toArray(batchBuffer);
+
+		// Fisher-Yates shuffle on the dense buffer
+		for (int i = size - 1; i > 0; i--) {
+			final int j = random.nextInt(i + 1);
+			final TimeSystemEvent event = events[i];
+			events[i] = events[j];
+			events[j] = event;
+		}
+
+		for (int i = 0; i < size; i++) {
+			final TimeSystemEvent event = events[i];
+			events[i] = null;
+
+			try {
+				/*
+				 * it may happen, that an event deconstructs an agent, and that agent has
+				 * registered other events for the same point in time -> they are contained in
+				 * the batches -> check for deconstruction
+				 */
+				if (!event.isDeconstructed()) {
+					event.onEvent();
+				}
+			} catch (final Exception e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
 	private synchronized void triggerEvents() {
 		// determine current date
 		final YearImpl yearExact = years.get(getCurrentYear());
@@ -226,37 +274,28 @@ public class TimeSystemImpl implements TimeSystem {
 		final DayType currentDayType = getCurrentDayType();
 		final HourType currentHourType = getCurrentHourType();
 
-		// select events for this date
-		final List<TimeSystemEvent> events = new ArrayList<TimeSystemEvent>();
+		// select events for this date, grouped by event class
+		final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> batches = new LinkedHashMap<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>>();
 
 		if (yearExact != null) {
-			events.addAll(yearExact.getEvents(currentMonthType, currentDayType, currentHourType));
+			yearExact.collectEvents(currentMonthType, currentDayType, currentHourType, batches);
 		}
 
 		if (yearEvery != null) {
-			events.addAll(yearEvery.getEvents(currentMonthType, currentDayType, currentHourType));
+			yearEvery.collectEvents(currentMonthType, currentDayType, currentHourType, batches);
 		}
 
 		/*
 		 * important: every time this method is called, events have to be shuffled, so
-		 * that each day gives each agent a new chance of being first
+		 * that each day gives each agent a new chance of being first; the order of the
+		 * event types is shuffled as well, so that no type of agent is privileged
 		 */
 		final Random random = ApplicationContext.getInstance().getRandomNumberGenerator().getRandom();
-		Collections.shuffle(events, random);
+		final List<Set<TimeSystemEvent>> batchesOfHour = new ArrayList<Set<TimeSystemEvent>>(batches.values());
+		Collections.shuffle(batchesOfHour, random);
 
-		for (final TimeSystemEvent event : events) {
-			try {
-				/*
-				 * it may happen, that an event deconstructs an agent, and that agent has
-				 * registered other events for the same point in time -> they are contained in
-				 * the events-list -> check for deconstruction
-				 */
-				if (!event.isDeconstructed()) {
-					event.onEvent();
-				}
-			} catch (final Exception e) {
-				e.printStackTrace();
-			}
+		for (final Set<TimeSystemEvent> batch : batchesOfHour) {
+			triggerBatch(batch, random);
 		}
 
 		if (HourType.HOUR_00.equals(currentHourType)) {
@@ -20,7 +20,7 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 package io.github.uwol.compecon.engine.timesystem.impl;
 
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import io.github.uwol.compecon.engine.timesystem.TimeSystemEvent;
@@ -40,21 +40,18 @@ public class YearImpl implements Year {
 	}
 
 	@Override
-	public Set<TimeSystemEvent> getEvents(final MonthType monthType, final DayType dayType, final HourType hourType) {
+	public void collectEvents(final MonthType monthType, final DayType dayType, final HourType hourType,
+			final Map<Class<? extends TimeSystemEvent>, Set<TimeSystemEvent>> batches) {
 		final MonthImpl monthExact = months.get(monthType);
 		final MonthImpl monthEvery = months.get(MonthType.EVERY);
 
-		final Set<TimeSystemEvent> events = new HashSet<TimeSystemEvent>();
-
 		if (monthExact != null) {
-			events.addAll(monthExact.getEvents(dayType, hourType));
+			monthExact.collectEvents(dayType, hourType, batches);
 		}
 
 		if (monthEvery != null) {
-			events.addAll(monthEvery.getEvents(dayType, hourType));
+			monthEvery.collectEvents(dayType, hourType, batches);
 		}
-
-		return events;
 	}
 
 	@Override
@@ -28,6 +28,8 @@ public class HibernateUtil {
 
 	private static Boolean isActive;
 
+	private static boolean isFlushPending = false;
+
 	private static Session session;
 
 	private static final SessionFactory sessionFactory = buildSessionFactory();
@@ -58,6 +60,7 @@ public class HibernateUtil {
 
 	public static void clearSession() {
 		if (HibernateUtil.isActive()) {
+			flushPendingChanges();
 			session.clear();
 		}
 	}
@@ -71,6 +74,7 @@ public class HibernateUtil {
 	public static void closeSession() {
 		if (HibernateUtil.isActive()) {
 			// close session independent from transaction contexts
+			flushPendingChanges();
 			session.close();
 		}
 	}
@@ -87,9 +91,25 @@ public class HibernateUtil {
 		}
 	}
 
+	/**
+	 * flushes the changes of the non-transactional session, if a flush has been
+	 * requested since the last flush
+	 */
+	private static void flushPendingChanges() {
+		if (isFlushPending) {
+			isFlushPending = false;
+			session.flush();
+		}
+	}
+
+	/**
+	 * requests a flush of the non-transactional session. As every flush checks all
+	 * entities of the session for changes, the flush is deferred until the session
+	 * is queried next, so that consecutive modifications are flushed together.
+	 */
 	public static void flushSession() {
 		if (HibernateUtil.isActive()) {
-			session.flush();
+			isFlushPending = true;
 		}
 	}
 
@@ -104,6 +124,17 @@ public class HibernateUtil {
 		return null;
 	}
 
+	/**
+	 * @return the non-transactional session for queries, with pending changes
+	 *         flushed, so that queries see them
+	 */
+	public static Session getFlushedSession() {
+		if (HibernateUtil.isActive()) {
+			flushPendingChanges();
+		}
+		return session;
+	}
+
 	public static Session getSession() {
 		return session;
 	}
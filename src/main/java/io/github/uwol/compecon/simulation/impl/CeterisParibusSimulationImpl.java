@@ -26,8 +26,12 @@ import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContextFactory;
+import io.github.uwol.compecon.engine.statistics.ConvergenceModel;
 import io.github.uwol.compecon.engine.util.HibernateUtil;
 import io.github.uwol.compecon.jmx.JMXRegistration;
+import io.github.uwol.compecon.simulation.optimization.ParameterSearch;
+import io.github.uwol.compecon.simulation.optimization.SimulationObjective;
+import io.github.uwol.compecon.simulation.optimization.impl.GoldenSectionParameterSearchImpl;
 
 /**
  * This is a main method for sequently starting multiple simulations without a
@@ -38,29 +42,27 @@ public class CeterisParibusSimulationImpl {
 
 	public static void main(final String[] args) throws IOException {
 
-		double highestTotalUtility = 0.0;
-		double maxI = -1;
-
 		/*
-		 * iterate
+		 * golden-section search with repeated sampling, which reuses the runs of
+		 * the surviving interior point and resamples only indistinguishable points
 		 */
-		for (double i = 0.01; i < 0.5; i += 0.03) {
-			for (int repetition = 0; repetition < 3; repetition++) {
+		final ParameterSearch parameterSearch = new GoldenSectionParameterSearchImpl(0.03, 2, 6, 2.0);
+
+		final double maxI = parameterSearch.maximize(new SimulationObjective() {
+			@Override
+			public double evaluate(final double i) throws IOException {
 				System.out.println("starting simulation run for i: " + i);
 
 				final double totalUtility = runSimulationIteration(i);
 
 				System.out.println("simulation run finished for i: " + i + " with totalUtility: " + totalUtility);
 
-				if (totalUtility > highestTotalUtility) {
-					System.out.println("total utility improved");
-					highestTotalUtility = totalUtility;
-					maxI = i;
-				}
+				return totalUtility;
 			}
-		}
+		}, 0.01, 0.5);
 
-		System.out.println("max simulation run had total utility: " + highestTotalUtility + " with i: " + maxI);
+		System.out.println("max total utility with i: " + maxI + " after "
+				+ parameterSearch.getNumberOfEvaluations() + " simulation runs");
 	}
 
 	protected static void overwriteConfiguration(final double i) {
@@ -116,6 +118,14 @@ public class CeterisParibusSimulationImpl {
 		final double totalUtility = ApplicationContext.getInstance().getModelRegistry()
 				.getNationalEconomyModel(Currency.EURO).totalUtilityOutputModel.getValue();
 
+		final ConvergenceModel convergenceModel = ApplicationContext.getInstance().getModelRegistry()
+				.getConvergenceModel();
+
+		if (convergenceModel.isConverged()) {
+			System.out.println("simulation run converged at " + convergenceModel.getConvergenceDate()
+					+ " after day " + convergenceModel.getConvergencePeriod() + " of the measurement");
+		}
+
 		/*
 		 * reset application context
 		 */
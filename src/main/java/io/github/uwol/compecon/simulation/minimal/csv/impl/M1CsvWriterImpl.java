@@ -42,7 +42,7 @@ public class M1CsvWriterImpl extends CsvPeriodWriterImpl implements SeriesChange
 	@Override
 	public void seriesChanged(final SeriesChangeEvent event) {
 		if (m1Model != null) {
-			final double output = m1Model.getValue();
+			final double output = m1Model.getLastPeriodValue();
 
 			accumulator.add(output, 1);
 		}
@@ -43,7 +43,7 @@ public class OutputCsvWriterImpl extends CsvPeriodWriterImpl implements SeriesCh
 	@Override
 	public void seriesChanged(final SeriesChangeEvent event) {
 		if (industryModel.outputModel != null) {
-			final double output = industryModel.outputModel.getValue();
+			final double output = industryModel.outputModel.getLastPeriodValue();
 
 			accumulator.add(output, 1);
 		}
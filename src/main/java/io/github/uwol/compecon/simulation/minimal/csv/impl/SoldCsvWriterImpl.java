@@ -44,7 +44,7 @@ public class SoldCsvWriterImpl extends CsvPeriodWriterImpl implements SeriesChan
 	@Override
 	public void seriesChanged(final SeriesChangeEvent event) {
 		if (pricingBehaviourModel.soldModel != null) {
-			final double output = pricingBehaviourModel.soldModel.getValue();
+			final double output = pricingBehaviourModel.soldModel.getLastPeriodValue();
 
 			accumulator.add(output, 1);
 		}
@@ -42,7 +42,7 @@ public class UtilityCsvWriterImpl extends CsvPeriodWriterImpl implements SeriesC
 	@Override
 	public void seriesChanged(final SeriesChangeEvent event) {
 		if (utilityModel.utilityOutputModel != null) {
-			final double utility = utilityModel.utilityOutputModel.getValue();
+			final double utility = utilityModel.utilityOutputModel.getLastPeriodValue();
 
 			accumulator.add(utility, 1);
 		}
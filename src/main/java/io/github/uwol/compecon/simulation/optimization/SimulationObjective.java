@@ -0,0 +1,32 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.simulation.optimization;
+
+import java.io.IOException;
+
+/**
+ * Scalar outcome of a full simulation run for a given parameter value. Results
+ * of repeated runs with the same parameter value may differ due to the
+ * stochastic nature of the simulation.
+ */
+public interface SimulationObjective {
+
+	double evaluate(double parameter) throws IOException;
+}
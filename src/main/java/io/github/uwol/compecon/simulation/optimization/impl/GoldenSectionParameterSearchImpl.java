@@ -0,0 +1,188 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.simulation.optimization.impl;
+
+import java.io.IOException;
+
+import io.github.uwol.compecon.simulation.optimization.ParameterSearch;
+import io.github.uwol.compecon.simulation.optimization.SimulationObjective;
+
+/**
+ * Golden-section search for unimodal, noisy objectives. Each probed parameter
+ * value is sampled repeatedly, and the two interior points are resampled only
+ * as long as their means cannot be distinguished given the observed standard
+ * errors. As the golden ratio lets one interior point survive each iteration,
+ * its samples are reused, so that only one new point has to be simulated per
+ * iteration.
+ */
+public class GoldenSectionParameterSearchImpl implements ParameterSearch {
+
+	/**
+	 * samples of a probed parameter value
+	 */
+	protected class Point {
+
+		protected int count = 0;
+
+		protected final double parameter;
+
+		protected double sum = 0.0;
+
+		protected double sumOfSquares = 0.0;
+
+		protected Point(final double parameter) {
+			this.parameter = parameter;
+		}
+
+		protected double getMean() {
+			return sum / count;
+		}
+
+		/**
+		 * @return squared standard error of the mean
+		 */
+		protected double getVarianceOfMean() {
+			if (count < 2) {
+				return Double.POSITIVE_INFINITY;
+			}
+
+			final double mean = getMean();
+			final double variance = Math.max(0.0, (sumOfSquares - count * mean * mean) / (count - 1));
+			return variance / count;
+		}
+
+		protected void sample(final SimulationObjective objective) throws IOException {
+			final double value = objective.evaluate(parameter);
+			sum += value;
+			sumOfSquares += value * value;
+			count++;
+			numberOfEvaluations++;
+		}
+	}
+
+	protected static final double INVERSE_GOLDEN_RATIO = (Math.sqrt(5.0) - 1.0) / 2.0;
+
+	protected final int initialRepetitions;
+
+	protected final int maxRepetitions;
+
+	protected int numberOfEvaluations;
+
+	/**
+	 * number of standard errors, by which the means of the interior points have
+	 * to differ
+	 */
+	protected final double significance;
+
+	protected final double tolerance;
+
+	/**
+	 * @param tolerance          width of the final interval
+	 * @param initialRepetitions simulation runs per new point
+	 * @param maxRepetitions     upper bound of simulation runs per point
+	 * @param significance       number of standard errors, by which two means
+	 *                           have to differ to be considered different
+	 */
+	public GoldenSectionParameterSearchImpl(final double tolerance, final int initialRepetitions,
+			final int maxRepetitions, final double significance) {
+		assert (tolerance > 0.0);
+		assert (initialRepetitions > 0);
+		assert (maxRepetitions >= initialRepetitions);
+
+		this.tolerance = tolerance;
+		this.initialRepetitions = initialRepetitions;
+		this.maxRepetitions = maxRepetitions;
+		this.significance = significance;
+	}
+
+	/**
+	 * samples both points until their means differ significantly or the maximum
+	 * number of repetitions is reached
+	 *
+	 * @return true, if the left point is better than the right point
+	 */
+	protected boolean compare(final SimulationObjective objective, final Point left, final Point right)
+			throws IOException {
+		while (true) {
+			final double difference = left.getMean() - right.getMean();
+			final double standardError = Math.sqrt(left.getVarianceOfMean() + right.getVarianceOfMean());
+
+			if (Math.abs(difference) > significance * standardError) {
+				return difference > 0.0;
+			}
+
+			if (left.count >= maxRepetitions && right.count >= maxRepetitions) {
+				return difference > 0.0;
+			}
+
+			// resample the less sampled point
+			if (left.count <= right.count) {
+				left.sample(objective);
+			} else {
+				right.sample(objective);
+			}
+		}
+	}
+
+	@Override
+	public int getNumberOfEvaluations() {
+		return numberOfEvaluations;
+	}
+
+	@Override
+	public double maximize(final SimulationObjective objective, final double lowerBound, final double upperBound)
+			throws IOException {
+		assert (lowerBound <= upperBound);
+
+		numberOfEvaluations = 0;
+
+		double lower = lowerBound;
+		double upper = upperBound;
+
+		Point left = newPoint(objective, upper - INVERSE_GOLDEN_RATIO * (upper - lower));
+		Point right = newPoint(objective, lower + INVERSE_GOLDEN_RATIO * (upper - lower));
+
+		while (upper - lower > tolerance) {
+			if (compare(objective, left, right)) {
+				// maximum in [lower, right]
+				upper = right.parameter;
+				right = left;
+				left = newPoint(objective, upper - INVERSE_GOLDEN_RATIO * (upper - lower));
+			} else {
+				// maximum in [left, upper]
+				lower = left.parameter;
+				left = right;
+				right = newPoint(objective, lower + INVERSE_GOLDEN_RATIO * (upper - lower));
+			}
+		}
+
+		return compare(objective, left, right) ? left.parameter : right.parameter;
+	}
+
+	protected Point newPoint(final SimulationObjective objective, final double parameter) throws IOException {
+		final Point point = new Point(parameter);
+
+		for (int i = 0; i < initialRepetitions; i++) {
+			point.sample(objective);
+		}
+
+		return point;
+	}
+}
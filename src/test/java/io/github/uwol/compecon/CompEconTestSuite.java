@@ -24,30 +24,39 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 import io.github.uwol.compecon.economy.sectors.financial.CreditBankTest;
+import io.github.uwol.compecon.economy.sectors.financial.impl.StreamingPriceIndexTest;
 import io.github.uwol.compecon.economy.sectors.household.HouseholdImplTest;
 import io.github.uwol.compecon.economy.sectors.industry.FactoryImplTest;
+import io.github.uwol.compecon.economy.security.debt.impl.BondPortfolioBookTest;
 import io.github.uwol.compecon.engine.applicationcontext.InterdependenciesConfigurationTest;
 import io.github.uwol.compecon.engine.applicationcontext.NoDependenciesConfigurationTest;
 import io.github.uwol.compecon.engine.applicationcontext.TestingConfigurationTest;
 import io.github.uwol.compecon.engine.dao.BankAccountDAOTest;
 import io.github.uwol.compecon.engine.dao.HouseholdDAOTest;
 import io.github.uwol.compecon.engine.dao.PropertyDAOTest;
+import io.github.uwol.compecon.engine.dao.inmemory.impl.ChunkedIdRegistryTest;
+import io.github.uwol.compecon.engine.log.impl.TransactionJournalTest;
 import io.github.uwol.compecon.engine.service.AgentServiceTest;
+import io.github.uwol.compecon.engine.service.HardCashServiceTest;
 import io.github.uwol.compecon.engine.service.MarketServiceTest;
 import io.github.uwol.compecon.engine.service.PropertyServiceTest;
+import io.github.uwol.compecon.engine.statistics.ConvergenceModelTest;
 import io.github.uwol.compecon.math.CESFunctionTest;
 import io.github.uwol.compecon.math.CobbDouglasFunctionTest;
 import io.github.uwol.compecon.math.intertemporal.ModiglianiIntertemporalConsumptionFunctionTest;
 import io.github.uwol.compecon.math.production.CobbDouglasProductionFunctionTest;
 import io.github.uwol.compecon.math.util.MathUtilTest;
 import io.github.uwol.compecon.math.utility.CobbDouglasUtilityFunctionTest;
+import io.github.uwol.compecon.simulation.optimization.GoldenSectionParameterSearchTest;
 
 @RunWith(Suite.class)
 @SuiteClasses({ MathUtilTest.class, InterdependenciesConfigurationTest.class, NoDependenciesConfigurationTest.class,
 		TestingConfigurationTest.class, BankAccountDAOTest.class, HouseholdDAOTest.class, PropertyDAOTest.class,
-		AgentServiceTest.class, MarketServiceTest.class, PropertyServiceTest.class, CreditBankTest.class,
-		HouseholdImplTest.class, FactoryImplTest.class, ModiglianiIntertemporalConsumptionFunctionTest.class,
-		CobbDouglasFunctionTest.class, CobbDouglasUtilityFunctionTest.class, CobbDouglasProductionFunctionTest.class,
-		CESFunctionTest.class })
+		ChunkedIdRegistryTest.class, TransactionJournalTest.class, AgentServiceTest.class, HardCashServiceTest.class,
+		MarketServiceTest.class, PropertyServiceTest.class, ConvergenceModelTest.class, CreditBankTest.class,
+		StreamingPriceIndexTest.class, HouseholdImplTest.class, FactoryImplTest.class, BondPortfolioBookTest.class,
+		ModiglianiIntertemporalConsumptionFunctionTest.class, CobbDouglasFunctionTest.class,
+		CobbDouglasUtilityFunctionTest.class, CobbDouglasProductionFunctionTest.class, CESFunctionTest.class,
+		GoldenSectionParameterSearchTest.class })
 public class CompEconTestSuite {
 }
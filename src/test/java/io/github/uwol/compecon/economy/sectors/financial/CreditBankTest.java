@@ -19,10 +19,12 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 
 package io.github.uwol.compecon.economy.sectors.financial;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 
@@ -33,9 +35,12 @@ import org.junit.Test;
 import io.github.uwol.compecon.CompEconTestSupport;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount.MoneyType;
 import io.github.uwol.compecon.economy.sectors.financial.BankAccount.TermType;
+import io.github.uwol.compecon.economy.sectors.financial.impl.BankAccountLedger;
+import io.github.uwol.compecon.economy.sectors.financial.impl.CreditBankImpl;
 import io.github.uwol.compecon.economy.sectors.household.Household;
 import io.github.uwol.compecon.economy.sectors.household.impl.HouseholdImpl;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
+import io.github.uwol.compecon.math.util.MathUtil;
 
 public class CreditBankTest extends CompEconTestSupport {
 
@@ -51,6 +56,42 @@ public class CreditBankTest extends CompEconTestSupport {
 		super.tearDown();
 	}
 
+	@Test
+	public void testBankAccountLedgerSums() {
+		final Currency currency = Currency.EURO;
+
+		final CreditBankImpl creditBank1_EUR = (CreditBankImpl) ApplicationContext.getInstance().getAgentService()
+				.findCreditBanks(currency).get(0);
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+		final Household household2_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(1);
+
+		final BankAccountLedger bankAccountLedger = creditBank1_EUR.getBankAccountLedger();
+		final double sumOfBorrowingsBefore = bankAccountLedger.getSumOfBorrowings(currency);
+		final double sumOfLoansBefore = bankAccountLedger.getSumOfLoans(currency);
+
+		final BankAccount bankAccount1_EUR = creditBank1_EUR.openBankAccount(household1_EUR, currency, true,
+				"savings", TermType.LONG_TERM, MoneyType.DEPOSITS);
+		final BankAccount bankAccount2_EUR = creditBank1_EUR.openBankAccount(household2_EUR, currency, true,
+				"loans", TermType.LONG_TERM, MoneyType.DEPOSITS);
+
+		creditBank1_EUR.transferMoney(bankAccount2_EUR, bankAccount1_EUR, 100.0, TransferReason.PAYMENT);
+		creditBank1_EUR.transferMoney(bankAccount1_EUR, bankAccount2_EUR, 30.0, TransferReason.PAYMENT);
+
+		assertEquals(sumOfBorrowingsBefore + 70.0, bankAccountLedger.getSumOfBorrowings(currency), epsilon);
+		assertEquals(sumOfLoansBefore + 70.0, bankAccountLedger.getSumOfLoans(currency), epsilon);
+		assertTrue(bankAccountLedger.sumsAreConsistent());
+
+		// closed bank accounts are removed from the ledger
+		creditBank1_EUR.closeCustomerAccount(household2_EUR);
+
+		for (int slot = 0; slot < bankAccountLedger.getNumberOfSlots(); slot++) {
+			assertNotSame(bankAccount2_EUR, bankAccountLedger.getHandle(slot));
+		}
+		assertTrue(bankAccountLedger.sumsAreConsistent());
+	}
+
 	@Test
 	public void testCreditBankDeconstruction() {
 		final Currency currency = Currency.EURO;
@@ -79,7 +120,7 @@ public class CreditBankTest extends CompEconTestSupport {
 
 		// transfer money
 		creditBank1_EUR.transferMoney(household1_EUR.getBankAccountTransactionsDelegate().getBankAccount(),
-				household2_EUR.getBankAccountTransactionsDelegate().getBankAccount(), 10, "Transaction");
+				household2_EUR.getBankAccountTransactionsDelegate().getBankAccount(), 10, TransferReason.PAYMENT);
 
 		assertEquals(-10.0, household1_EUR.getBankAccountTransactionsDelegate().getBankAccount().getBalance(), epsilon);
 		assertEquals(10.0, household2_EUR.getBankAccountTransactionsDelegate().getBankAccount().getBalance(), epsilon);
@@ -107,6 +148,93 @@ public class CreditBankTest extends CompEconTestSupport {
 		assertEquals(0.0, household2_EUR.getBankAccountTransactionsDelegate().getBankAccount().getBalance(), epsilon);
 	}
 
+	@Test
+	public void testDailyInterestCalculation() {
+		final Currency currency = Currency.EURO;
+
+		final CreditBankImpl creditBank1_EUR = (CreditBankImpl) ApplicationContext.getInstance().getAgentService()
+				.findCreditBanks(currency).get(0);
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+		final Household household2_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(1);
+
+		final BankAccount bankAccount1_EUR = creditBank1_EUR.openBankAccount(household1_EUR, currency, true,
+				"savings", TermType.LONG_TERM, MoneyType.DEPOSITS);
+		final BankAccount bankAccount2_EUR = creditBank1_EUR.openBankAccount(household2_EUR, currency, true,
+				"loans", TermType.LONG_TERM, MoneyType.DEPOSITS);
+
+		creditBank1_EUR.transferMoney(bankAccount2_EUR, bankAccount1_EUR, 100.0, TransferReason.PAYMENT);
+
+		creditBank1_EUR.assureBankAccountInterestTransactions();
+		final BankAccount bankAccountInterestTransactions = creditBank1_EUR.getBankAccountInterestTransactions();
+		final double interestTransactionsBalanceBefore = bankAccountInterestTransactions.getBalance();
+
+		creditBank1_EUR.new DailyInterestCalculationEvent().onEvent();
+
+		final double dailyInterestRate = MathUtil.calculateMonthlyNominalInterestRate(ApplicationContext.getInstance()
+				.getAgentService().findCentralBank(currency).getEffectiveKeyInterestRate()) / 30.0;
+
+		assertEquals(100.0 + 100.0 * dailyInterestRate, bankAccount1_EUR.getBalance(), epsilon);
+		assertEquals(-100.0 - 100.0 * dailyInterestRate * 1.5, bankAccount2_EUR.getBalance(), epsilon);
+		assertEquals(interestTransactionsBalanceBefore + 100.0 * dailyInterestRate * 0.5,
+				bankAccountInterestTransactions.getBalance(), epsilon);
+
+		// closed bank accounts do not bear interest anymore
+		creditBank1_EUR.closeCustomerAccount(household2_EUR);
+		final double balanceOfDeletedBankAccount = bankAccount2_EUR.getBalance();
+
+		creditBank1_EUR.new DailyInterestCalculationEvent().onEvent();
+
+		assertEquals(balanceOfDeletedBankAccount, bankAccount2_EUR.getBalance(), epsilon);
+	}
+
+	@Test
+	public void testMoneyReservesThresholds() {
+		final Currency currency = Currency.EURO;
+
+		ApplicationContext.getInstance().getConfiguration().creditBankConfig.moneyReservesLowerThreshold = 0.5;
+		ApplicationContext.getInstance().getConfiguration().creditBankConfig.moneyReservesTarget = 0.8;
+
+		final CreditBankImpl creditBank1_EUR = (CreditBankImpl) ApplicationContext.getInstance().getAgentService()
+				.findCreditBanks(currency).get(0);
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+		final Household household2_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(1);
+		final double reserveRatio = ApplicationContext.getInstance().getAgentService().findCentralBank(currency)
+				.getReserveRatio();
+
+		final BankAccount bankAccount1_EUR = creditBank1_EUR.openBankAccount(household1_EUR, currency, true,
+				"savings", TermType.LONG_TERM, MoneyType.DEPOSITS);
+		final BankAccount bankAccount2_EUR = creditBank1_EUR.openBankAccount(household2_EUR, currency, true,
+				"loans", TermType.LONG_TERM, MoneyType.DEPOSITS);
+		final BankAccount moneyReserves = creditBank1_EUR.getBankAccountCentralBankMoneyReservesDelegate()
+				.getBankAccount();
+
+		// below lower threshold -> rebalanced to target
+		creditBank1_EUR.transferMoney(bankAccount2_EUR, bankAccount1_EUR, 1000.0, TransferReason.PAYMENT);
+		creditBank1_EUR.new CheckMoneyReservesEvent().onEvent();
+
+		final double sumOfBorrowings1 = creditBank1_EUR.getBankAccountLedger().getSumOfBorrowings(currency);
+		assertEquals(sumOfBorrowings1 * reserveRatio * 0.8, moneyReserves.getBalance(), epsilon);
+
+		// above lower threshold -> not rebalanced
+		final double moneyReservesBefore = moneyReserves.getBalance();
+		creditBank1_EUR.transferMoney(bankAccount2_EUR, bankAccount1_EUR, sumOfBorrowings1 * 0.4,
+				TransferReason.PAYMENT);
+		creditBank1_EUR.new CheckMoneyReservesEvent().onEvent();
+
+		assertEquals(moneyReservesBefore, moneyReserves.getBalance(), epsilon);
+
+		// below lower threshold again -> rebalanced to target
+		creditBank1_EUR.transferMoney(bankAccount2_EUR, bankAccount1_EUR, sumOfBorrowings1, TransferReason.PAYMENT);
+		creditBank1_EUR.new CheckMoneyReservesEvent().onEvent();
+
+		final double sumOfBorrowings2 = creditBank1_EUR.getBankAccountLedger().getSumOfBorrowings(currency);
+		assertEquals(sumOfBorrowings2 * reserveRatio * 0.8, moneyReserves.getBalance(), epsilon);
+	}
+
 	@Test
 	public void testTransferMoney() {
 		final Currency currency = Currency.EURO;
@@ -125,11 +253,123 @@ public class CreditBankTest extends CompEconTestSupport {
 		// transfer money
 		for (int i = 1; i < 1000; i++) {
 			source.transferMoney(household1_EUR.getBankAccountTransactionsDelegate().getBankAccount(),
-					household2_EUR.getBankAccountTransactionsDelegate().getBankAccount(), 10, "Transaction" + i);
+					household2_EUR.getBankAccountTransactionsDelegate().getBankAccount(), 10, TransferReason.PAYMENT);
 			assertEquals(-10.0 * i, household1_EUR.getBankAccountTransactionsDelegate().getBankAccount().getBalance(),
 					epsilon);
 			assertEquals(10.0 * i, household2_EUR.getBankAccountTransactionsDelegate().getBankAccount().getBalance(),
 					epsilon);
 		}
 	}
+
+	@Test
+	public void testTransferMoneyBetweenCreditBanks() {
+		final Currency currency = Currency.EURO;
+
+		final CreditBank creditBank1_EUR = ApplicationContext.getInstance().getAgentService().findCreditBanks(currency)
+				.get(0);
+		final CreditBank creditBank2_EUR = ApplicationContext.getInstance().getAgentService().findCreditBanks(currency)
+				.get(1);
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+		final Household household2_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(1);
+
+		final BankAccount bankAccount1_EUR = creditBank1_EUR.openBankAccount(household1_EUR, currency, true,
+				"transactions", TermType.SHORT_TERM, MoneyType.DEPOSITS);
+		final BankAccount bankAccount2_EUR = creditBank2_EUR.openBankAccount(household2_EUR, currency, true,
+				"transactions", TermType.SHORT_TERM, MoneyType.DEPOSITS);
+
+		final BankAccount centralBankTransactions1_EUR = creditBank1_EUR
+				.getBankAccountCentralBankTransactionsDelegate().getBankAccount();
+		final BankAccount centralBankTransactions2_EUR = creditBank2_EUR
+				.getBankAccountCentralBankTransactionsDelegate().getBankAccount();
+		final BankAccount moneyReserves1_EUR = creditBank1_EUR.getBankAccountCentralBankMoneyReservesDelegate()
+				.getBankAccount();
+		final BankAccount moneyReserves2_EUR = creditBank2_EUR.getBankAccountCentralBankMoneyReservesDelegate()
+				.getBankAccount();
+		final double moneyReserves1Before = moneyReserves1_EUR.getBalance();
+		final double moneyReserves2Before = moneyReserves2_EUR.getBalance();
+
+		creditBank1_EUR.transferMoney(bankAccount1_EUR, bankAccount2_EUR, 10.0, TransferReason.PAYMENT);
+		creditBank2_EUR.transferMoney(bankAccount2_EUR, bankAccount1_EUR, 4.0, TransferReason.PAYMENT);
+
+		assertEquals(-6.0, bankAccount1_EUR.getBalance(), epsilon);
+		assertEquals(6.0, bankAccount2_EUR.getBalance(), epsilon);
+
+		// central bank accounts of the credit banks are not touched
+		assertEquals(0.0, centralBankTransactions1_EUR.getBalance(), epsilon);
+		assertEquals(0.0, centralBankTransactions2_EUR.getBalance(), epsilon);
+		assertEquals(moneyReserves1Before, moneyReserves1_EUR.getBalance(), epsilon);
+		assertEquals(moneyReserves2Before, moneyReserves2_EUR.getBalance(), epsilon);
+	}
+
+	@Test
+	public void testTransferMoneyToMany() {
+		final Currency currency = Currency.EURO;
+
+		final CreditBank creditBank1_EUR = ApplicationContext.getInstance().getAgentService().findCreditBanks(currency)
+				.get(0);
+		final CreditBank creditBank2_EUR = ApplicationContext.getInstance().getAgentService().findCreditBanks(currency)
+				.get(1);
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+		final Household household2_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(1);
+
+		final BankAccount source_EUR = creditBank1_EUR.openBankAccount(household1_EUR, currency, true, "transactions",
+				TermType.SHORT_TERM, MoneyType.DEPOSITS);
+		final BankAccount sameBank_EUR = creditBank1_EUR.openBankAccount(household1_EUR, currency, true,
+				"government transfers", TermType.SHORT_TERM, MoneyType.DEPOSITS);
+		final BankAccount otherBank_EUR = creditBank2_EUR.openBankAccount(household2_EUR, currency, true,
+				"transactions", TermType.SHORT_TERM, MoneyType.DEPOSITS);
+
+		final BankAccount centralBankTransactions1_EUR = creditBank1_EUR
+				.getBankAccountCentralBankTransactionsDelegate().getBankAccount();
+
+		creditBank1_EUR.transferMoneyToMany(source_EUR, new BankAccount[] { sameBank_EUR, otherBank_EUR, otherBank_EUR },
+				new double[] { 3.0, 5.0, 7.0 }, TransferReason.GOVERNMENT_TRANSFER);
+
+		assertEquals(-15.0, source_EUR.getBalance(), epsilon);
+		assertEquals(3.0, sameBank_EUR.getBalance(), epsilon);
+		assertEquals(12.0, otherBank_EUR.getBalance(), epsilon);
+
+		// interbank transfers do not pass the central bank transactions bank account
+		assertEquals(0.0, centralBankTransactions1_EUR.getBalance(), epsilon);
+	}
+
+	@Test
+	public void testTransferMoneyToManyWithoutOverdraft() {
+		final Currency currency = Currency.EURO;
+
+		final CreditBank creditBank1_EUR = ApplicationContext.getInstance().getAgentService().findCreditBanks(currency)
+				.get(0);
+		final CreditBank creditBank2_EUR = ApplicationContext.getInstance().getAgentService().findCreditBanks(currency)
+				.get(1);
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+		final Household household2_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(1);
+
+		final BankAccount funding_EUR = creditBank1_EUR.openBankAccount(household1_EUR, currency, true, "funding",
+				TermType.SHORT_TERM, MoneyType.DEPOSITS);
+		final BankAccount source_EUR = creditBank1_EUR.openBankAccount(household1_EUR, currency, false,
+				"transactions", TermType.SHORT_TERM, MoneyType.DEPOSITS);
+		final BankAccount sameBank_EUR = creditBank1_EUR.openBankAccount(household1_EUR, currency, true,
+				"government transfers", TermType.SHORT_TERM, MoneyType.DEPOSITS);
+		final BankAccount otherBank_EUR = creditBank2_EUR.openBankAccount(household2_EUR, currency, true,
+				"transactions", TermType.SHORT_TERM, MoneyType.DEPOSITS);
+
+		creditBank1_EUR.transferMoney(funding_EUR, source_EUR, 15.0, TransferReason.PAYMENT);
+
+		// the sender has no overdraft and exactly the sum of the amounts
+		final double[] amounts = new double[] { 3.0, 5.0, 7.0 };
+		creditBank1_EUR.transferMoneyToMany(source_EUR, new BankAccount[] { sameBank_EUR, otherBank_EUR, otherBank_EUR },
+				amounts, TransferReason.GOVERNMENT_TRANSFER);
+
+		// the amounts of the caller are left alone, credits equal the debit
+		assertArrayEquals(new double[] { 3.0, 5.0, 7.0 }, amounts, 0.0);
+		assertEquals(0.0, source_EUR.getBalance(), epsilon);
+		assertEquals(3.0, sameBank_EUR.getBalance(), epsilon);
+		assertEquals(12.0, otherBank_EUR.getBalance(), epsilon);
+	}
 }
@@ -0,0 +1,107 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.economy.sectors.financial.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import io.github.uwol.compecon.economy.materia.GoodType;
+
+public class StreamingPriceIndexTest {
+
+	final double epsilon = 0.000001;
+
+	/**
+	 * average weighted by age over the window, newest snapshot first
+	 */
+	protected double calculateAveragePrice(final double[] window) {
+		double priceSum = 0.0;
+		double totalWeight = 0.0;
+
+		for (int i = 0; i < window.length; i++) {
+			if (window[i] != 0.0) {
+				final double weight = window.length - i;
+				priceSum += window[i] * weight;
+				totalWeight += weight;
+			}
+		}
+
+		return priceSum / totalWeight;
+	}
+
+	@Test
+	public void testAveragePriceMatchesRecalculation() {
+		final int windowSize = 12;
+		final double[] priceIndexWeights = new double[GoodType.values().length];
+		priceIndexWeights[GoodType.WHEAT.ordinal()] = 1.0;
+
+		final StreamingPriceIndex streamingPriceIndex = new StreamingPriceIndex(priceIndexWeights, windowSize);
+		final double[] window = new double[windowSize];
+		final Random random = new Random(42);
+
+		assertTrue(Double.isNaN(streamingPriceIndex.getAveragePrice(GoodType.WHEAT)));
+		assertTrue(Double.isNaN(streamingPriceIndex.getPriceIndex()));
+
+		for (int i = 0; i < 1000; i++) {
+			// some snapshots are zero or NaN
+			final double price = i % 7 == 0 ? 0.0 : i % 11 == 0 ? Double.NaN : 1.0 + random.nextDouble() * 10.0;
+
+			streamingPriceIndex.addSnapshot(GoodType.WHEAT, price);
+
+			if (!Double.isNaN(price)) {
+				System.arraycopy(window, 0, window, 1, window.length - 1);
+				window[0] = price;
+			}
+
+			assertEquals(calculateAveragePrice(window), streamingPriceIndex.getAveragePrice(GoodType.WHEAT), epsilon);
+			assertEquals(calculateAveragePrice(window), streamingPriceIndex.getPriceIndex(), epsilon);
+		}
+	}
+
+	@Test
+	public void testChainedPriceIndices() {
+		final double[] priceIndexWeights = new double[GoodType.values().length];
+		priceIndexWeights[GoodType.WHEAT.ordinal()] = 0.5;
+		priceIndexWeights[GoodType.COAL.ordinal()] = 0.5;
+
+		final StreamingPriceIndex streamingPriceIndex = new StreamingPriceIndex(priceIndexWeights, 4);
+
+		streamingPriceIndex.onMarketTick(GoodType.WHEAT, 1.0, 10.0);
+		streamingPriceIndex.onMarketTick(GoodType.COAL, 2.0, 5.0);
+		streamingPriceIndex.completePeriod();
+
+		// no previous period
+		assertEquals(1.0, streamingPriceIndex.getChainedLaspeyresPriceIndex(), epsilon);
+		assertEquals(1.0, streamingPriceIndex.getChainedPaaschePriceIndex(), epsilon);
+
+		streamingPriceIndex.onMarketTick(GoodType.WHEAT, 2.0, 5.0);
+		streamingPriceIndex.onMarketTick(GoodType.COAL, 2.0, 10.0);
+		streamingPriceIndex.completePeriod();
+
+		// (2 * 10 + 2 * 5) / (1 * 10 + 2 * 5)
+		assertEquals(1.5, streamingPriceIndex.getChainedLaspeyresPriceIndex(), epsilon);
+		// (2 * 5 + 2 * 10) / (1 * 5 + 2 * 10)
+		assertEquals(1.2, streamingPriceIndex.getChainedPaaschePriceIndex(), epsilon);
+	}
+}
@@ -30,6 +30,7 @@ import org.junit.Test;
 import io.github.uwol.compecon.CompEconTestSupport;
 import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
 import io.github.uwol.compecon.economy.sectors.household.impl.HouseholdImpl;
 import io.github.uwol.compecon.economy.sectors.industry.Factory;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
@@ -67,7 +68,7 @@ public class HouseholdImplTest extends CompEconTestSupport {
 		// provide money to household 1
 		household2_EUR.getBankAccountTransactionsDelegate().getBankAccount().getManagingBank().transferMoney(
 				household2_EUR.getBankAccountTransactionsDelegate().getBankAccount(),
-				household1_EUR.getBankAccountTransactionsDelegate().getBankAccount(), 10.0, "");
+				household1_EUR.getBankAccountTransactionsDelegate().getBankAccount(), 10.0, TransferReason.PAYMENT);
 
 		assertEquals(10.0, household1_EUR.getBankAccountTransactionsDelegate().getBankAccount().getBalance(), epsilon);
 
@@ -0,0 +1,110 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.uwol.compecon.economy.security.debt.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.uwol.compecon.CompEconTestSupport;
+import io.github.uwol.compecon.economy.sectors.financial.BankAccount;
+import io.github.uwol.compecon.economy.sectors.financial.CreditBank;
+import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.state.State;
+import io.github.uwol.compecon.economy.security.debt.FixedRateBond;
+import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
+import io.github.uwol.compecon.engine.timesystem.impl.DayType;
+import io.github.uwol.compecon.math.util.MathUtil;
+
+public class BondPortfolioBookTest extends CompEconTestSupport {
+
+	@Before
+	public void setup() throws IOException {
+		super.setUpApplicationContext(testConfigurationPropertiesFilename);
+		super.setUpTestAgents();
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		super.tearDown();
+	}
+
+	@Test
+	public void testCouponsAndRedemptionPerLot() {
+		final Currency currency = Currency.EURO;
+
+		final State state_EUR = ApplicationContext.getInstance().getAgentService().findState(currency);
+		final CreditBank creditBank1_EUR = ApplicationContext.getInstance().getAgentService().findCreditBanks(currency)
+				.get(0);
+		final BankAccount bankAccount = creditBank1_EUR.getBankAccountTransactionsDelegate().getBankAccount();
+
+		final BondPortfolioBook bondPortfolioBook = new BondPortfolioBook(creditBank1_EUR,
+				creditBank1_EUR.getBankAccountTransactionsDelegate(),
+				creditBank1_EUR.getBankAccountTransactionsDelegate());
+
+		// bonds with same issuer, coupon and maturity are booked into one lot
+		final FixedRateBond bond1 = state_EUR.obtainBond(1000, creditBank1_EUR,
+				creditBank1_EUR.getBankAccountTransactionsDelegate());
+		final FixedRateBond bond2 = state_EUR.obtainBond(2000, creditBank1_EUR,
+				creditBank1_EUR.getBankAccountTransactionsDelegate());
+		bondPortfolioBook.add(bond1);
+		bondPortfolioBook.add(bond2);
+
+		assertEquals(1, bondPortfolioBook.getNumberOfLots());
+		assertEquals(2, bondPortfolioBook.getNumberOfBonds());
+		assertEquals(3000, bondPortfolioBook.getFaceValueSum(), epsilon);
+		assertTrue(bond1.isSettledByPortfolioBook());
+
+		// one coupon transfer for the lot
+		final double balanceBeforeCoupons = bankAccount.getBalance();
+		bondPortfolioBook.transferCoupons();
+		final double dailyCouponValue = MathUtil.calculateMonthlyNominalInterestRate(bond1.getCoupon()) / 30.0
+				* 3000;
+		assertEquals(balanceBeforeCoupons + dailyCouponValue, bankAccount.getBalance(), epsilon);
+
+		// removed bonds transfer coupons and face value themselves
+		bondPortfolioBook.remove(bond2);
+		assertFalse(bond2.isSettledByPortfolioBook());
+		assertEquals(1000, bondPortfolioBook.getFaceValueSum(), epsilon);
+
+		// no redemption before maturity
+		final double balanceBeforeRedemption = bankAccount.getBalance();
+		final DayType otherDayType = DayType.DAY_01.equals(bond1.getMaturityDayType()) ? DayType.DAY_02
+				: DayType.DAY_01;
+		bondPortfolioBook.redeemMaturedLots(bond1.getMaturityYear(), bond1.getMaturityMonthType(), otherDayType);
+		assertEquals(1, bondPortfolioBook.getNumberOfLots());
+
+		// redemption at maturity
+		bondPortfolioBook.redeemMaturedLots(bond1.getMaturityYear(), bond1.getMaturityMonthType(),
+				bond1.getMaturityDayType());
+		assertEquals(0, bondPortfolioBook.getNumberOfLots());
+		assertEquals(balanceBeforeRedemption + 1000, bankAccount.getBalance(), epsilon);
+		assertTrue(bond1.isDeconstructed());
+		assertFalse(bond2.isDeconstructed());
+	}
+}
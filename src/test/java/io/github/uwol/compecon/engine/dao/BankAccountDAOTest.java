@@ -20,6 +20,8 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 package io.github.uwol.compecon.engine.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 
@@ -69,6 +71,7 @@ public class BankAccountDAOTest extends CompEconTestSupport {
 				.findAll(creditBank1_EUR, household1_EUR, currency).size());
 		assertEquals(0,
 				ApplicationContext.getInstance().getBankAccountDAO().findAllBankAccountsOfAgent(household1_EUR).size());
+		assertFalse(ApplicationContext.getInstance().getBankAccountDAO().hasAccount(creditBank1_EUR, household1_EUR));
 
 		// create bank account for household 1
 		creditBank1_EUR.openBankAccount(household1_EUR, currency, false, "test bank account", TermType.SHORT_TERM,
@@ -88,6 +91,7 @@ public class BankAccountDAOTest extends CompEconTestSupport {
 				.findAll(creditBank1_EUR, household1_EUR, Currency.USDOLLAR).size());
 		assertEquals(1,
 				ApplicationContext.getInstance().getBankAccountDAO().findAllBankAccountsOfAgent(household1_EUR).size());
+		assertTrue(ApplicationContext.getInstance().getBankAccountDAO().hasAccount(creditBank1_EUR, household1_EUR));
 
 		// delete bank accounts of household 1
 		ApplicationContext.getInstance().getBankAccountFactory().deleteAllBankAccounts(creditBank1_EUR, household1_EUR);
@@ -100,6 +104,8 @@ public class BankAccountDAOTest extends CompEconTestSupport {
 				.findAll(creditBank1_EUR, household1_EUR, currency).size());
 		assertEquals(0,
 				ApplicationContext.getInstance().getBankAccountDAO().findAllBankAccountsOfAgent(household1_EUR).size());
+		assertFalse(ApplicationContext.getInstance().getBankAccountDAO().hasAccount(creditBank1_EUR, household1_EUR));
+		assertTrue(ApplicationContext.getInstance().getBankAccountDAO().hasAccount(creditBank1_EUR, household2_EUR));
 
 		// delete bank accounts managed by credit bank 1
 		ApplicationContext.getInstance().getBankAccountFactory().deleteAllBankAccounts(creditBank1_EUR);
@@ -112,5 +118,6 @@ public class BankAccountDAOTest extends CompEconTestSupport {
 				.findAll(creditBank1_EUR, household2_EUR, currency).size());
 		assertEquals(0,
 				ApplicationContext.getInstance().getBankAccountDAO().findAllBankAccountsOfAgent(household2_EUR).size());
+		assertFalse(ApplicationContext.getInstance().getBankAccountDAO().hasAccount(creditBank1_EUR, household2_EUR));
 	}
 }
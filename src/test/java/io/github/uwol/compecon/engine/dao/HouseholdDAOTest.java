@@ -20,8 +20,16 @@ along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
 package io.github.uwol.compecon.engine.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
@@ -45,6 +53,48 @@ public class HouseholdDAOTest extends CompEconTestSupport {
 		super.tearDown();
 	}
 
+	@Test
+	public void testConcurrentReadersWhileModifying() throws InterruptedException {
+		ApplicationContext.getInstance().getHouseholdFactory().newInstanceHousehold(Currency.EURO, 0);
+		final Household household = ApplicationContext.getInstance().getHouseholdFactory()
+				.newInstanceHousehold(Currency.EURO, 0);
+
+		final HouseholdDAO householdDAO = ApplicationContext.getInstance().getHouseholdDAO();
+		final AtomicBoolean running = new AtomicBoolean(true);
+		final AtomicInteger inconsistentReads = new AtomicInteger();
+
+		final List<Thread> readers = new ArrayList<Thread>();
+		for (int i = 0; i < 4; i++) {
+			final Thread reader = new Thread() {
+				@Override
+				public void run() {
+					while (running.get()) {
+						final int size = householdDAO.findAllByCurrency(Currency.EURO).size();
+						if (size < 1 || size > 2) {
+							inconsistentReads.incrementAndGet();
+						}
+					}
+				}
+			};
+			readers.add(reader);
+			reader.start();
+		}
+
+		// the second household is removed and re-added while the readers are running
+		for (int i = 0; i < 10000; i++) {
+			householdDAO.delete(household);
+			householdDAO.save(household);
+		}
+
+		running.set(false);
+		for (final Thread reader : readers) {
+			reader.join();
+		}
+
+		assertEquals(0, inconsistentReads.get());
+		assertEquals(2, householdDAO.findAllByCurrency(Currency.EURO).size());
+	}
+
 	@Test
 	public void testCreateAndDeleteHouseholds() {
 		ApplicationContext.getInstance().getHouseholdFactory().newInstanceHousehold(Currency.EURO, 0);
@@ -64,4 +114,108 @@ public class HouseholdDAOTest extends CompEconTestSupport {
 
 		assertEquals(2, ApplicationContext.getInstance().getHouseholdDAO().findAllByCurrency(Currency.EURO).size());
 	}
+
+	@Test
+	public void testDeleteHouseholdKeepsInsertionOrder() {
+		final Household household1 = ApplicationContext.getInstance().getHouseholdFactory()
+				.newInstanceHousehold(Currency.EURO, 0);
+		final Household household2 = ApplicationContext.getInstance().getHouseholdFactory()
+				.newInstanceHousehold(Currency.EURO, 0);
+		final Household household3 = ApplicationContext.getInstance().getHouseholdFactory()
+				.newInstanceHousehold(Currency.EURO, 0);
+
+		household2.deconstruct();
+
+		final List<Household> households = ApplicationContext.getInstance().getHouseholdDAO()
+				.findAllByCurrency(Currency.EURO);
+		assertEquals(2, households.size());
+		assertSame(household1, households.get(0));
+		assertSame(household3, households.get(1));
+
+		household1.deconstruct();
+		household3.deconstruct();
+
+		assertTrue(ApplicationContext.getInstance().getHouseholdDAO().findAllByCurrency(Currency.EURO).isEmpty());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testDeletionWhileIteratingViewFails() {
+		ApplicationContext.getInstance().getHouseholdFactory().newInstanceHousehold(Currency.EURO, 0);
+		ApplicationContext.getInstance().getHouseholdFactory().newInstanceHousehold(Currency.EURO, 0);
+
+		// deleting the first of two households would end the iteration silently
+		for (final Household household : ApplicationContext.getInstance().getHouseholdDAO()
+				.findAllByCurrencyView(Currency.EURO)) {
+			household.deconstruct();
+		}
+	}
+
+	@Test
+	public void testFindRandomAfterDelete() {
+		final Household household1 = ApplicationContext.getInstance().getHouseholdFactory()
+				.newInstanceHousehold(Currency.EURO, 0);
+		final Household household2 = ApplicationContext.getInstance().getHouseholdFactory()
+				.newInstanceHousehold(Currency.EURO, 0);
+		final Household household3 = ApplicationContext.getInstance().getHouseholdFactory()
+				.newInstanceHousehold(Currency.EURO, 0);
+
+		household1.deconstruct();
+
+		final List<Household> households = ApplicationContext.getInstance().getHouseholdDAO().findAll();
+		assertEquals(2, households.size());
+		assertFalse(households.contains(household1));
+
+		for (int i = 0; i < 10; i++) {
+			final Household household = ApplicationContext.getInstance().getHouseholdDAO().findRandom();
+			assertTrue(household == household2 || household == household3);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testModificationWhileIteratingAllFails() {
+		ApplicationContext.getInstance().getHouseholdFactory().newInstanceHousehold(Currency.EURO, 0);
+
+		for (final Household household : ApplicationContext.getInstance().getHouseholdDAO().findAll()) {
+			assertFalse(household.isDeconstructed());
+			ApplicationContext.getInstance().getHouseholdFactory().newInstanceHousehold(Currency.EURO, 0);
+		}
+	}
+
+	@Test
+	public void testViewByForeignThreadFails() throws InterruptedException {
+		final HouseholdDAO householdDAO = ApplicationContext.getInstance().getHouseholdDAO();
+		final AtomicBoolean failed = new AtomicBoolean(false);
+
+		final Thread foreignThread = new Thread() {
+			@Override
+			public void run() {
+				try {
+					householdDAO.findAllByCurrencyView(Currency.EURO);
+				} catch (final IllegalStateException e) {
+					failed.set(true);
+				}
+			}
+		};
+		foreignThread.start();
+		foreignThread.join();
+
+		assertTrue(failed.get());
+	}
+
+	@Test
+	public void testViewHouseholdsByCurrency() {
+		ApplicationContext.getInstance().getHouseholdFactory().newInstanceHousehold(Currency.EURO, 0);
+
+		final Collection<Household> households = ApplicationContext.getInstance().getHouseholdDAO()
+				.findAllByCurrencyView(Currency.EURO);
+		assertEquals(1, households.size());
+
+		final Household household = ApplicationContext.getInstance().getHouseholdFactory()
+				.newInstanceHousehold(Currency.EURO, 0);
+		assertEquals(2, households.size());
+		assertTrue(households.contains(household));
+
+		household.deconstruct();
+		assertEquals(1, households.size());
+	}
 }
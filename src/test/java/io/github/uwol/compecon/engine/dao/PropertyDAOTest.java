@@ -136,5 +136,20 @@ public class PropertyDAOTest extends CompEconTestSupport {
 				.findAllPropertiesOfPropertyOwner(creditBank1_EUR, Bond.class).size());
 		assertEquals(1, ApplicationContext.getInstance().getPropertyDAO()
 				.findAllPropertiesOfPropertyOwner(creditBank1_EUR, Share.class).size());
+
+		// the property is transferred in place
+		assertEquals(3, ApplicationContext.getInstance().getPropertyDAO().findAll().size());
+		assertEquals(state_EUR, bond2.getOwner());
+		assertEquals(2, ApplicationContext.getInstance().getPropertyDAO()
+				.findAllPropertiesIssuedByAgent(state_EUR, Bond.class).size());
+
+		// transfer to null owner
+		ApplicationContext.getInstance().getPropertyService().transferProperty(bond2, state_EUR, null);
+
+		assertEquals(0,
+				ApplicationContext.getInstance().getPropertyDAO().findAllPropertiesOfPropertyOwner(state_EUR).size());
+		assertEquals(3, ApplicationContext.getInstance().getPropertyDAO().findAll().size());
+		assertEquals(2, ApplicationContext.getInstance().getPropertyDAO()
+				.findAllPropertiesIssuedByAgent(state_EUR, Bond.class).size());
 	}
 }
@@ -0,0 +1,67 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.engine.dao.inmemory.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class ChunkedIdRegistryTest {
+
+	@Test
+	public void testAddGetAndRemoveAcrossChunks() {
+		final ChunkedIdRegistry<String> registry = new ChunkedIdRegistry<String>();
+		final int numberOfInstances = 3 * ChunkedIdRegistry.CHUNK_SIZE + 7;
+
+		for (int i = 0; i < numberOfInstances; i++) {
+			assertEquals(i, registry.add("instance " + i));
+		}
+
+		for (int i = 0; i < numberOfInstances; i++) {
+			assertEquals("instance " + i, registry.get(i));
+		}
+
+		assertNull(registry.get(-1));
+		assertNull(registry.get(numberOfInstances));
+
+		// empty the first chunk, which is released
+		for (int i = 0; i < ChunkedIdRegistry.CHUNK_SIZE; i++) {
+			registry.remove(i);
+		}
+		assertNull(registry.chunks.get(0));
+		assertNull(registry.get(5));
+		assertEquals("instance " + ChunkedIdRegistry.CHUNK_SIZE, registry.get(ChunkedIdRegistry.CHUNK_SIZE));
+
+		// removing twice has no effect
+		registry.remove(ChunkedIdRegistry.CHUNK_SIZE);
+		registry.remove(ChunkedIdRegistry.CHUNK_SIZE);
+		assertNull(registry.get(ChunkedIdRegistry.CHUNK_SIZE));
+		assertEquals("instance " + (ChunkedIdRegistry.CHUNK_SIZE + 1),
+				registry.get(ChunkedIdRegistry.CHUNK_SIZE + 1));
+
+		// the last chunk is not released, as it still receives new ids
+		for (int i = 3 * ChunkedIdRegistry.CHUNK_SIZE; i < numberOfInstances; i++) {
+			registry.remove(i);
+		}
+		assertEquals(numberOfInstances, registry.add("instance " + numberOfInstances));
+		assertEquals("instance " + numberOfInstances, registry.get(numberOfInstances));
+	}
+}
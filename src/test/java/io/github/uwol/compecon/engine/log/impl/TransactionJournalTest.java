@@ -0,0 +1,74 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.engine.log.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.financial.TransferReason;
+
+public class TransactionJournalTest {
+
+	@Test
+	public void testAppendAndReplayAcrossChunks() throws IOException {
+		final File journalFile = File.createTempFile("compecon", ".journal");
+		journalFile.deleteOnExit();
+
+		final int recordsPerChunk = TransactionJournal.CHUNK_SIZE / TransactionJournal.RECORD_SIZE;
+		final int numberOfRecords = 2 * recordsPerChunk + 7;
+
+		final TransactionJournal journal = new TransactionJournal(journalFile, 1000L);
+		for (int i = 0; i < numberOfRecords; i++) {
+			if (i == recordsPerChunk) {
+				journal.setTick(2000L);
+			}
+			journal.append(i, i + 1, i * 0.5, Currency.USDOLLAR, TransferReason.DIVIDEND);
+		}
+		journal.close();
+
+		assertEquals(numberOfRecords * TransactionJournal.RECORD_SIZE, journalFile.length());
+
+		final double[] sumOfAmounts = new double[1];
+		final long numberOfReplayedRecords = new TransactionJournalReader(journalFile)
+				.replay(new TransactionJournalReader.TransferVisitor() {
+					int i = 0;
+
+					@Override
+					public void visit(final long tick, final int fromBankAccountId, final int toBankAccountId,
+							final double amount, final Currency currency, final TransferReason reason) {
+						assertEquals(i < recordsPerChunk ? 1000L : 2000L, tick);
+						assertEquals(i, fromBankAccountId);
+						assertEquals(i + 1, toBankAccountId);
+						assertEquals(Currency.USDOLLAR, currency);
+						assertEquals(TransferReason.DIVIDEND, reason);
+						sumOfAmounts[0] += amount;
+						i++;
+					}
+				});
+
+		assertEquals(numberOfRecords, numberOfReplayedRecords);
+		assertEquals(0.5 * (numberOfRecords - 1) * numberOfRecords / 2.0, sumOfAmounts[0], 0.0001);
+	}
+}
@@ -29,6 +29,7 @@ import org.junit.Test;
 import io.github.uwol.compecon.CompEconTestSupport;
 import io.github.uwol.compecon.economy.materia.GoodType;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.state.State;
 import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
 
 public class AgentServiceTest extends CompEconTestSupport {
@@ -76,4 +77,18 @@ public class AgentServiceTest extends CompEconTestSupport {
 			Assert.assertEquals(2, ApplicationContext.getInstance().getAgentService().findHouseholds(currency).size());
 		}
 	}
+
+	@Test
+	public void testStateIsCachedUntilDeleted() {
+		final Currency currency = Currency.EURO;
+
+		final State state = ApplicationContext.getInstance().getAgentService().findState(currency);
+		Assert.assertSame(state, ApplicationContext.getInstance().getAgentService().findState(currency));
+
+		ApplicationContext.getInstance().getStateFactory().deleteState(state);
+
+		final State newState = ApplicationContext.getInstance().getAgentService().findState(currency);
+		Assert.assertNotSame(state, newState);
+		Assert.assertSame(newState, ApplicationContext.getInstance().getStateDAO().findByCurrency(currency));
+	}
 }
@@ -0,0 +1,111 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.engine.service;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.uwol.compecon.CompEconTestSupport;
+import io.github.uwol.compecon.economy.sectors.financial.Currency;
+import io.github.uwol.compecon.economy.sectors.household.Household;
+import io.github.uwol.compecon.engine.applicationcontext.ApplicationContext;
+
+public class HardCashServiceTest extends CompEconTestSupport {
+
+	@Before
+	public void setup() throws IOException {
+		super.setUpApplicationContext(testConfigurationPropertiesFilename);
+		super.setUpTestAgents();
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		super.tearDown();
+	}
+
+	@Test
+	public void testDeregisterResetsBalances() {
+		final Currency currency = Currency.EURO;
+		final HardCashService hardCashService = ApplicationContext.getInstance().getHardCashService();
+
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+		final Household household2_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(1);
+
+		hardCashService.increment(household1_EUR, currency, 100.0);
+		hardCashService.increment(household1_EUR, Currency.YEN, 50.0);
+		hardCashService.deregister(household1_EUR);
+
+		assertEquals(0.0, hardCashService.getBalance(household1_EUR, currency), epsilon);
+
+		// the row of the deregistered owner is reused without its balances
+		hardCashService.increment(household2_EUR, currency, 10.0);
+		assertEquals(0.0, hardCashService.getBalance(household2_EUR, Currency.YEN), epsilon);
+		assertEquals(10.0, hardCashService.getBalance(household2_EUR, currency), epsilon);
+	}
+
+	@Test
+	public void testDeconstructionHandsOverHardCash() {
+		final Currency currency = Currency.EURO;
+		final HardCashService hardCashService = ApplicationContext.getInstance().getHardCashService();
+
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+
+		hardCashService.increment(household1_EUR, currency, 100.0);
+		household1_EUR.deconstruct();
+
+		// the hard cash is handed over to a random household
+		double hardCashOfHouseholds = 0.0;
+		for (final Household household : ApplicationContext.getInstance().getHouseholdDAO().findAll()) {
+			hardCashOfHouseholds += hardCashService.getBalance(household, currency);
+		}
+		assertEquals(100.0, hardCashOfHouseholds, epsilon);
+	}
+
+	@Test
+	public void testIncrementDecrementAndTransfer() {
+		final Currency currency = Currency.EURO;
+		final HardCashService hardCashService = ApplicationContext.getInstance().getHardCashService();
+
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+		final Household household2_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(1);
+
+		assertEquals(0.0, hardCashService.getBalance(household1_EUR, currency), epsilon);
+
+		assertEquals(100.0, hardCashService.increment(household1_EUR, currency, 100.0), epsilon);
+		assertEquals(70.0, hardCashService.decrement(household1_EUR, currency, 30.0), epsilon);
+		assertEquals(0.0, hardCashService.getBalance(household1_EUR, Currency.USDOLLAR), epsilon);
+
+		hardCashService.transfer(household1_EUR, household2_EUR, currency, 20.0);
+
+		assertEquals(50.0, hardCashService.getBalance(household1_EUR, currency), epsilon);
+		assertEquals(20.0, hardCashService.getBalance(household2_EUR, currency), epsilon);
+	}
+}
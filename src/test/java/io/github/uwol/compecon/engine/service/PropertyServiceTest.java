@@ -24,6 +24,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.junit.After;
 import org.junit.Before;
@@ -31,6 +32,7 @@ import org.junit.Test;
 
 import io.github.uwol.compecon.CompEconTestSupport;
 import io.github.uwol.compecon.economy.materia.GoodType;
+import io.github.uwol.compecon.economy.property.Property;
 import io.github.uwol.compecon.economy.sectors.financial.Currency;
 import io.github.uwol.compecon.economy.sectors.household.Household;
 import io.github.uwol.compecon.economy.sectors.industry.Factory;
@@ -129,6 +131,32 @@ public class PropertyServiceTest extends CompEconTestSupport {
 				.get(GoodType.MACHINE), epsilon);
 	}
 
+	@Test
+	public void testGoodTypeBalancesArray() {
+		final Currency currency = Currency.EURO;
+
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+
+		ApplicationContext.getInstance().getPropertyService().incrementGoodTypeAmount(household1_EUR, GoodType.IRON,
+				1.5);
+		ApplicationContext.getInstance().getPropertyService().incrementGoodTypeAmount(household1_EUR, GoodType.WHEAT,
+				3.0);
+
+		final double[] balances = ApplicationContext.getInstance().getPropertyService()
+				.getGoodTypeBalancesArray(household1_EUR);
+
+		assertEquals(GoodType.values().length, balances.length);
+		assertEquals(1.5, balances[GoodType.IRON.ordinal()], epsilon);
+		assertEquals(3.0, balances[GoodType.WHEAT.ordinal()], epsilon);
+
+		// snapshot is decoupled from the owned amounts
+		balances[GoodType.IRON.ordinal()] = 0.0;
+		assertEquals(1.5,
+				ApplicationContext.getInstance().getPropertyService().getGoodTypeBalance(household1_EUR, GoodType.IRON),
+				epsilon);
+	}
+
 	@Test
 	public void testIncrementAndDecrementGoodType() {
 		final Currency currency = Currency.EURO;
@@ -263,4 +291,55 @@ public class PropertyServiceTest extends CompEconTestSupport {
 		assertEquals(0, ApplicationContext.getInstance().getPropertyService()
 				.findAllPropertiesIssuedByAgent(household2_EUR, Share.class).size());
 	}
+
+	@Test
+	public void testTransferProperties() {
+		final Currency currency = Currency.EURO;
+
+		final Household household1_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(0);
+		final Household household2_EUR = ApplicationContext.getInstance().getAgentService().findHouseholds(currency)
+				.get(1);
+		final Factory factory1_EUR = ApplicationContext.getInstance().getAgentService().findRandomFactory();
+
+		final Share share1 = ApplicationContext.getInstance().getShareFactory().newInstanceShare(factory1_EUR,
+				factory1_EUR);
+		ApplicationContext.getInstance().getShareFactory().newInstanceShare(factory1_EUR, factory1_EUR);
+		ApplicationContext.getInstance().getShareFactory().newInstanceShare(factory1_EUR, factory1_EUR);
+
+		final int numberOfPropertiesOfHousehold1 = ApplicationContext.getInstance().getPropertyService()
+				.findAllPropertiesOfPropertyOwner(household1_EUR).size();
+		final int numberOfPropertiesOfHousehold2 = ApplicationContext.getInstance().getPropertyService()
+				.findAllPropertiesOfPropertyOwner(household2_EUR).size();
+
+		// transfer all shares
+		final List<Property> shares = ApplicationContext.getInstance().getPropertyService()
+				.findAllPropertiesOfPropertyOwner(factory1_EUR, Share.class);
+		ApplicationContext.getInstance().getPropertyService().transferProperties(shares, factory1_EUR,
+				household1_EUR);
+
+		assertEquals(0, ApplicationContext.getInstance().getPropertyService()
+				.findAllPropertiesOfPropertyOwner(factory1_EUR, Share.class).size());
+		assertEquals(numberOfPropertiesOfHousehold1 + 3, ApplicationContext.getInstance().getPropertyService()
+				.findAllPropertiesOfPropertyOwner(household1_EUR).size());
+		assertEquals(household1_EUR, share1.getOwner());
+
+		// transfer the whole portfolio
+		final List<Property> portfolio = ApplicationContext.getInstance().getPropertyService()
+				.findAllPropertiesOfPropertyOwner(household1_EUR);
+		ApplicationContext.getInstance().getPropertyService().transferProperties(portfolio, household1_EUR,
+				household2_EUR);
+
+		assertEquals(0, ApplicationContext.getInstance().getPropertyService()
+				.findAllPropertiesOfPropertyOwner(household1_EUR).size());
+		assertEquals(0, ApplicationContext.getInstance().getPropertyService()
+				.findAllPropertiesOfPropertyOwner(household1_EUR, Share.class).size());
+		assertEquals(numberOfPropertiesOfHousehold1 + numberOfPropertiesOfHousehold2 + 3, ApplicationContext
+				.getInstance().getPropertyService().findAllPropertiesOfPropertyOwner(household2_EUR).size());
+		assertEquals(household2_EUR, share1.getOwner());
+
+		// issuer
+		assertEquals(3, ApplicationContext.getInstance().getPropertyService()
+				.findAllPropertiesIssuedByAgent(factory1_EUR, Share.class).size());
+	}
 }
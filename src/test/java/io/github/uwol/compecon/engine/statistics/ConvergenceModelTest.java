@@ -0,0 +1,99 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.engine.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.uwol.compecon.CompEconTestSupport;
+import io.github.uwol.compecon.engine.statistics.timeseries.PeriodDataAccumulatorTimeSeriesModel;
+
+public class ConvergenceModelTest extends CompEconTestSupport {
+
+	protected void completePeriod(final ConvergenceModel convergenceModel,
+			final PeriodDataAccumulatorTimeSeriesModel model, final double value) {
+		model.add(value);
+		convergenceModel.nextPeriod(new Date());
+		model.completePeriod(new Date(), new ArrayList<Runnable>());
+	}
+
+	@Before
+	public void setup() throws IOException {
+		super.setUpApplicationContext(testConfigurationPropertiesFilename);
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		super.tearDown();
+	}
+
+	@Test
+	public void testConstantSeriesConverges() {
+		final ConvergenceModel convergenceModel = new ConvergenceModel(10, 0.05, 0.05, 5);
+		final PeriodDataAccumulatorTimeSeriesModel model = new PeriodDataAccumulatorTimeSeriesModel("constant");
+		convergenceModel.addMonitoredSeries("constant", model);
+
+		for (int i = 0; i < 13; i++) {
+			completePeriod(convergenceModel, model, 100.0);
+			assertFalse(convergenceModel.isConverged());
+		}
+
+		completePeriod(convergenceModel, model, 100.0);
+		assertTrue(convergenceModel.isConverged());
+		assertEquals(13, convergenceModel.getConvergencePeriod());
+	}
+
+	@Test
+	public void testGrowingSeriesDoesNotConverge() {
+		final ConvergenceModel convergenceModel = new ConvergenceModel(10, 0.05, 0.05, 5);
+		final PeriodDataAccumulatorTimeSeriesModel model = new PeriodDataAccumulatorTimeSeriesModel("growing");
+		convergenceModel.addMonitoredSeries("growing", model);
+
+		for (int i = 0; i < 100; i++) {
+			// 1% growth per period yields a drift of about 10% per window
+			completePeriod(convergenceModel, model, 100.0 * Math.pow(1.01, i));
+		}
+
+		assertFalse(convergenceModel.isConverged());
+	}
+
+	@Test
+	public void testOscillatingSeriesDoesNotConverge() {
+		final ConvergenceModel convergenceModel = new ConvergenceModel(10, 0.05, 0.05, 5);
+		final PeriodDataAccumulatorTimeSeriesModel model = new PeriodDataAccumulatorTimeSeriesModel("oscillating");
+		convergenceModel.addMonitoredSeries("oscillating", model);
+
+		for (int i = 0; i < 100; i++) {
+			completePeriod(convergenceModel, model, i % 2 == 0 ? 80.0 : 120.0);
+		}
+
+		assertFalse(convergenceModel.isConverged());
+	}
+}
@@ -0,0 +1,78 @@
+/*
+Copyright (C) 2013 u.wol@wwu.de
+
+This file is part of ComputationalEconomy.
+
+ComputationalEconomy is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+ComputationalEconomy is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with ComputationalEconomy. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.uwol.compecon.simulation.optimization;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.uwol.compecon.CompEconTestSupport;
+import io.github.uwol.compecon.simulation.optimization.impl.GoldenSectionParameterSearchImpl;
+
+public class GoldenSectionParameterSearchTest extends CompEconTestSupport {
+
+	@Before
+	public void setup() throws IOException {
+		super.setUpApplicationContext(testConfigurationPropertiesFilename);
+	}
+
+	@Override
+	@After
+	public void tearDown() {
+		super.tearDown();
+	}
+
+	@Test
+	public void testMaximizeNoisyParabola() throws IOException {
+		final Random random = new Random(42);
+
+		final ParameterSearch parameterSearch = new GoldenSectionParameterSearchImpl(0.03, 2, 6, 2.0);
+		final double maximum = parameterSearch.maximize(new SimulationObjective() {
+			@Override
+			public double evaluate(final double parameter) {
+				return 1000.0 - 4000.0 * Math.pow(parameter - 0.2, 2) + random.nextGaussian() * 5.0;
+			}
+		}, 0.01, 0.5);
+
+		assertEquals(0.2, maximum, 0.05);
+
+		// brute-force grid of 17 values with 3 repetitions each needs 51 runs
+		assertTrue(parameterSearch.getNumberOfEvaluations() < 51);
+	}
+
+	@Test
+	public void testMaximizeParabola() throws IOException {
+		final ParameterSearch parameterSearch = new GoldenSectionParameterSearchImpl(0.001, 2, 6, 2.0);
+		final double maximum = parameterSearch.maximize(new SimulationObjective() {
+			@Override
+			public double evaluate(final double parameter) {
+				return -Math.pow(parameter - 0.37, 2);
+			}
+		}, 0.0, 1.0);
+
+		assertEquals(0.37, maximum, 0.001);
+	}
+}